@@ -0,0 +1,177 @@
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.*;
+
+/**
+ * Sliding-window aggregator: consumes typed readings one at a time and only
+ * notifies the station when the derived alert level crosses a threshold.
+ * It requests the next reading only after the current one is handled; alerts
+ * are queued per module by the station, so a slow module never stalls it.
+ */
+class FlareWindowSubscriber implements Flow.Subscriber<FlareIntensity> {
+    private final SpaceWeatherStation station;
+    private final FlareIntensity[] window;
+    private final int[] levelCounts = new int[FlareIntensity.values().length];
+    private final double highRateThreshold;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private Flow.Subscription subscription;
+    private int next;
+    private int filled;
+    private long processed;
+    private FlareIntensity alert;
+
+    /**
+     * @param windowSize        number of most recent readings the aggregates cover.
+     * @param highRateThreshold fraction of High readings in the window that raises a High alert.
+     * @throws IllegalArgumentException if windowSize is not positive.
+     */
+    FlareWindowSubscriber(SpaceWeatherStation station, int windowSize, double highRateThreshold) {
+        if (windowSize <= 0) throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        this.station = station;
+        this.window = new FlareIntensity[windowSize];
+        this.highRateThreshold = highRateThreshold;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(FlareIntensity reading) {
+        FlareIntensity evicted = window[next];
+        if (evicted != null) levelCounts[evicted.ordinal()]--;
+        window[next] = reading;
+        levelCounts[reading.ordinal()]++;
+        next = (next + 1) % window.length;
+        if (filled < window.length) filled++;
+        processed++;
+
+        FlareIntensity level = alertLevel();
+        if (level != alert) {
+            alert = level;
+            System.out.printf("%n[Ingestion] Alert level %s (peak %s, High rate %.1f%% over %d readings)%n",
+                    level.label(), peakIntensity().label(), highRate() * 100, filled);
+            station.setSolarFlare(level);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        System.out.println("[Ingestion] Stream failed: " + throwable.getMessage());
+        done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        done.countDown();
+    }
+
+    // Highest intensity currently in the window.
+    public FlareIntensity peakIntensity() {
+        for (int i = levelCounts.length - 1; i > 0; i--) {
+            if (levelCounts[i] > 0) return FlareIntensity.values()[i];
+        }
+        return FlareIntensity.LOW;
+    }
+
+    // Fraction of readings in the window that were High.
+    public double highRate() {
+        return filled == 0 ? 0.0 : (double) levelCounts[FlareIntensity.HIGH.ordinal()] / filled;
+    }
+
+    // Isolated High spikes only count as Medium until they reach the configured rate.
+    private FlareIntensity alertLevel() {
+        if (highRate() >= highRateThreshold) return FlareIntensity.HIGH;
+        return peakIntensity() == FlareIntensity.LOW ? FlareIntensity.LOW : FlareIntensity.MEDIUM;
+    }
+
+    public long getProcessed() { return processed; }
+
+    void awaitCompletion() throws InterruptedException { done.await(); }
+}
+
+/**
+ * Streams flare readings from a file, stdin, or a local socket into the station.
+ * Lines are parsed into FlareIntensity and pushed through a bounded
+ * SubmissionPublisher; when the buffer is full the reader blocks, which in
+ * turn throttles the file or socket producer.
+ * Usage: java FlareStreamIngestion [--file path | --port n] [windowSize] [highRateThreshold]
+ */
+public class FlareStreamIngestion {
+    private static final int BUFFER_CAPACITY = 256;
+
+    public static long ingest(Reader source, SpaceWeatherStation station, int windowSize, double highRateThreshold)
+            throws IOException, InterruptedException {
+        FlareWindowSubscriber aggregator = new FlareWindowSubscriber(station, windowSize, highRateThreshold);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        long malformed = 0;
+
+        // The worker thread is not a daemon; it must be shut down even when reading fails (e.g. a socket reset).
+        try {
+            try (SubmissionPublisher<FlareIntensity> publisher = new SubmissionPublisher<>(worker, BUFFER_CAPACITY);
+                 BufferedReader reader = new BufferedReader(source)) {
+                publisher.subscribe(aggregator);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    try {
+                        publisher.submit(FlareIntensity.parse(line)); // Blocks while the subscriber is behind.
+                    } catch (IllegalArgumentException e) {
+                        malformed++;
+                    }
+                }
+            }
+            aggregator.awaitCompletion();
+        } finally {
+            worker.shutdown();
+        }
+
+        System.out.printf("%n[Ingestion] Processed %d readings (%d malformed skipped).%n",
+                aggregator.getProcessed(), malformed);
+        return aggregator.getProcessed();
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpaceWeatherStation station = new SpaceWeatherStation();
+        station.subscribe(new NavigationModule());
+        station.subscribe(new CommunicationModule());
+        station.subscribe(new ShieldModule(), java.util.EnumSet.of(FlareIntensity.MEDIUM, FlareIntensity.HIGH));
+
+        int argIndex = 0;
+        Reader source;
+        Socket socket = null;
+        ServerSocket server = null;
+        if (args.length > 1 && args[0].equals("--file")) {
+            source = Files.newBufferedReader(Path.of(args[1]), StandardCharsets.UTF_8);
+            argIndex = 2;
+        } else if (args.length > 1 && args[0].equals("--port")) {
+            server = new ServerSocket(Integer.parseInt(args[1]));
+            System.out.println("[Ingestion] Waiting for sensor feed on port " + args[1] + "...");
+            socket = server.accept();
+            source = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+            argIndex = 2;
+        } else {
+            source = new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        }
+        int windowSize = args.length > argIndex ? Integer.parseInt(args[argIndex]) : 100;
+        double highRate = args.length > argIndex + 1 ? Double.parseDouble(args[argIndex + 1]) : 0.2;
+
+        long start = System.nanoTime();
+        long count = ingest(source, station, windowSize, highRate);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Ingestion] %.0f readings/s%n", count / seconds);
+        station.awaitDelivery(1000);
+        station.close();
+
+        if (socket != null) socket.close();
+        if (server != null) server.close();
+    }
+}
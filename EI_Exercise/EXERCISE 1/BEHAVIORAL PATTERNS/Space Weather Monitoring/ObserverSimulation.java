@@ -1,21 +1,197 @@
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Flare intensity levels modules can subscribe to
+enum FlareIntensity {
+    LOW, MEDIUM, HIGH;
+
+    public static FlareIntensity parse(String input) {
+        for (FlareIntensity level : values()) {
+            if (level.name().equalsIgnoreCase(input.trim())) return level;
+        }
+        throw new IllegalArgumentException("Unknown flare intensity: " + input);
+    }
+
+    public String label() {
+        return name().charAt(0) + name().substring(1).toLowerCase();
+    }
+}
 
 // Subject
-class SpaceWeatherStation {
-    private List<Module> modules = new ArrayList<>();
-    private String solarFlare;
+class SpaceWeatherStation implements AutoCloseable {
+    // Flares a module may have queued before further ones are dropped for it.
+    private static final int MAILBOX_CAPACITY = 64;
+    // Flares a mailbox handles per turn before giving its pool thread to other modules.
+    private static final int DRAIN_BATCH = 16;
+
+    // One immutable subscriber array per intensity level, replaced on every (un)subscribe.
+    private final AtomicReferenceArray<Mailbox[]> subscribers =
+            new AtomicReferenceArray<>(FlareIntensity.values().length);
+    // Guarded by this. One mailbox per module, shared by all its levels so it sees every flare in order.
+    private final Map<Module, Mailbox> mailboxes = new IdentityHashMap<>();
+    private final Executor deliveryPool;
+    private final ExecutorService ownedPool;
+    private final AtomicLong pending = new AtomicLong();
+    private final Object idle = new Object();
+
+    public SpaceWeatherStation() { this(null); }
+
+    /**
+     * @param deliveryPool pool the module mailboxes run on, or null to use a daemon pool owned by the station.
+     *                     A slow module holds one pool thread while it runs, so a fixed-size pool only
+     *                     isolates as many slow modules as it has threads.
+     */
+    public SpaceWeatherStation(Executor deliveryPool) {
+        if (deliveryPool == null) {
+            // Grows to one thread per busy module (never more, since a mailbox runs serially).
+            ownedPool = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "flare-delivery");
+                t.setDaemon(true);
+                return t;
+            });
+            deliveryPool = ownedPool;
+        } else {
+            ownedPool = null;
+        }
+        this.deliveryPool = deliveryPool;
+        for (int i = 0; i < subscribers.length(); i++) subscribers.set(i, new Mailbox[0]);
+    }
+
+    // Subscribes to every intensity level.
+    public void subscribe(Module module) { subscribe(module, EnumSet.allOf(FlareIntensity.class)); }
+
+    // Subscribes only to the given levels; the module is never touched for other flares.
+    // Subscribing an already subscribed module only adds the levels it was missing.
+    public synchronized void subscribe(Module module, Set<FlareIntensity> levels) {
+        if (levels.isEmpty()) return;
+        Mailbox mailbox = mailboxes.computeIfAbsent(module, Mailbox::new);
+        for (FlareIntensity level : levels) {
+            Mailbox[] current = subscribers.get(level.ordinal());
+            if (indexOf(current, mailbox) >= 0) continue;
+            Mailbox[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = mailbox;
+            subscribers.set(level.ordinal(), next);
+        }
+    }
+
+    // Flares already queued for the module are still delivered.
+    public synchronized void unsubscribe(Module module) {
+        Mailbox mailbox = mailboxes.remove(module);
+        if (mailbox == null) return;
+        for (int i = 0; i < subscribers.length(); i++) {
+            Mailbox[] current = subscribers.get(i);
+            int idx = indexOf(current, mailbox);
+            if (idx < 0) continue;
+            Mailbox[] next = new Mailbox[current.length - 1];
+            System.arraycopy(current, 0, next, 0, idx);
+            System.arraycopy(current, idx + 1, next, idx, current.length - idx - 1);
+            subscribers.set(i, next);
+        }
+    }
+
+    private static int indexOf(Mailbox[] mailboxes, Mailbox mailbox) {
+        for (int i = 0; i < mailboxes.length; i++) {
+            if (mailboxes[i] == mailbox) return i;
+        }
+        return -1;
+    }
+
+    public int subscriberCount(FlareIntensity level) { return subscribers.get(level.ordinal()).length; }
 
-    public void subscribe(Module module) { modules.add(module); }
-    public void unsubscribe(Module module) { modules.remove(module); }
+    public void setSolarFlare(String flare) { setSolarFlare(FlareIntensity.parse(flare)); }
 
-    public void setSolarFlare(String flare) {
-        this.solarFlare = flare;
+    public void setSolarFlare(FlareIntensity level) {
+        String flare = level.label();
         System.out.println("\n[Mission Control] Solar Flare Detected: " + flare);
-        notifyModules();
+        notifyModules(level, flare);
+    }
+
+    // Posts to the snapshot taken at call time and returns without waiting for any module;
+    // concurrent (un)subscribes affect the next flare only. A slow or failing module only delays
+    // or loses its own flares (see Mailbox).
+    private void notifyModules(FlareIntensity level, String flare) {
+        for (Mailbox mailbox : subscribers.get(level.ordinal())) mailbox.post(flare);
+    }
+
+    /**
+     * Waits until every flare posted so far has been handled or dropped.
+     * @return false if the timeout elapsed first.
+     */
+    public boolean awaitDelivery(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+        return true;
+    }
+
+    private void delivered() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (idle) { idle.notifyAll(); }
+        }
+    }
+
+    // Shuts down the station's own pool; a pool passed in by the caller is left running.
+    @Override
+    public void close() {
+        if (ownedPool != null) ownedPool.shutdown();
     }
 
-    private void notifyModules() {
-        for (Module m : modules) m.update(solarFlare);
+    /**
+     * Serial executor for one module: its flares run one at a time, in arrival order, on the shared pool.
+     * The queue is bounded, so a module that falls behind loses new flares instead of holding up the
+     * publisher or growing without limit; a module that throws is reported and keeps its subscription.
+     */
+    private final class Mailbox implements Runnable {
+        private final Module module;
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(MAILBOX_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(Module module) { this.module = module; }
+
+        void post(String flare) {
+            pending.incrementAndGet();
+            if (!queue.offer(flare)) {
+                delivered();
+                System.out.println("[Mission Control] Module " + module.getClass().getSimpleName()
+                        + " is behind; dropped " + flare + " flare");
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) deliveryPool.execute(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    String flare = queue.poll();
+                    if (flare == null) break;
+                    try {
+                        module.update(flare);
+                    } catch (RuntimeException e) {
+                        System.out.println("[Mission Control] Module " + module.getClass().getSimpleName()
+                                + " failed to handle flare: " + e.getMessage());
+                    } finally {
+                        delivered();
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // A flare posted while this turn was finishing saw scheduled == true and did not reschedule.
+            if (!queue.isEmpty()) schedule();
+        }
     }
 }
 
@@ -43,14 +219,14 @@ class ShieldModule implements Module {
 
 // Simulation
 public class ObserverSimulation {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
         Scanner sc = new Scanner(System.in);
         SpaceWeatherStation station = new SpaceWeatherStation();
 
-        // Subscribe modules
+        // Subscribe modules (shields only care about serious flares)
         station.subscribe(new NavigationModule());
         station.subscribe(new CommunicationModule());
-        station.subscribe(new ShieldModule());
+        station.subscribe(new ShieldModule(), EnumSet.of(FlareIntensity.MEDIUM, FlareIntensity.HIGH));
 
         System.out.println("=== Space Weather Monitoring ===");
         System.out.println("Type 'exit' to stop.");
@@ -59,10 +235,16 @@ public class ObserverSimulation {
             System.out.print("Enter solar flare intensity (Low/Medium/High): ");
             String input = sc.nextLine();
             if (input.equalsIgnoreCase("exit")) break;
-            station.setSolarFlare(input);
+            try {
+                station.setSolarFlare(input);
+                station.awaitDelivery(1000); // Keeps module output ahead of the next prompt.
+            } catch (IllegalArgumentException e) {
+                System.out.println("Error: " + e.getMessage());
+            }
         }
 
         System.out.println("Simulation ended.");
+        station.close();
         sc.close();
     }
 }
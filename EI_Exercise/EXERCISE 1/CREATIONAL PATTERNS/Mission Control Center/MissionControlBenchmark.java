@@ -0,0 +1,98 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention benchmark: MissionRegistry versus the original design of
+ * synchronized getters and setters around shared state.
+ * Usage: java MissionControlBenchmark [readers] [writers] [missions] [seconds]
+ */
+public class MissionControlBenchmark {
+
+    // Common view over both designs so the same workload drives each.
+    interface StatusStore {
+        void update(String missionId, String status);
+        String get(String missionId);
+    }
+
+    // Baseline: every reader and writer serializes on one monitor, as MissionControl does.
+    static class SynchronizedStore implements StatusStore {
+        private final Map<String, String> statuses = new HashMap<>();
+
+        public synchronized void update(String missionId, String status) { statuses.put(missionId, status); }
+        public synchronized String get(String missionId) { return statuses.get(missionId); }
+    }
+
+    static class RegistryStore implements StatusStore {
+        private final MissionRegistry registry = new MissionRegistry();
+
+        public void update(String missionId, String status) { registry.updateStatus(missionId, status); }
+        public String get(String missionId) { return registry.getStatus(missionId); }
+    }
+
+    private static final String[] STATUSES = {"Idle", "Launch Prep", "In Flight", "Landed"};
+
+    public static void main(String[] args) throws InterruptedException {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int writers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int missions = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        String[] ids = new String[missions];
+        for (int i = 0; i < missions; i++) ids[i] = "M-" + i;
+
+        System.out.printf("=== MissionControl contention: %d readers, %d writers, %d missions, %ds ===%n",
+                readers, writers, missions, seconds);
+
+        // Warm-up pass for each store, then the measured pass.
+        run(new SynchronizedStore(), ids, readers, writers, 1, false);
+        run(new RegistryStore(), ids, readers, writers, 1, false);
+        run(new SynchronizedStore(), ids, readers, writers, seconds, true);
+        run(new RegistryStore(), ids, readers, writers, seconds, true);
+    }
+
+    private static void run(StatusStore store, String[] ids, int readers, int writers,
+                            int seconds, boolean report) throws InterruptedException {
+        for (String id : ids) store.update(id, STATUSES[0]);
+
+        LongAdder reads = new LongAdder();
+        LongAdder writes = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        Thread[] threads = new Thread[readers + writers];
+
+        for (int t = 0; t < threads.length; t++) {
+            boolean writer = t < writers;
+            threads[t] = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long ops = 0;
+                while (System.nanoTime() < deadline[0]) {
+                    for (int i = 0; i < 1024; i++) {
+                        String id = ids[rnd.nextInt(ids.length)];
+                        if (writer) store.update(id, STATUSES[rnd.nextInt(STATUSES.length)]);
+                        else store.get(id);
+                    }
+                    ops += 1024;
+                }
+                (writer ? writes : reads).add(ops);
+            });
+            threads[t].start();
+        }
+
+        deadline[0] = System.nanoTime() + seconds * 1_000_000_000L;
+        start.countDown();
+        for (Thread t : threads) t.join();
+
+        if (report) {
+            System.out.printf("%-18s reads: %,12d ops/s   writes: %,12d ops/s%n",
+                    store.getClass().getSimpleName(), reads.sum() / seconds, writes.sum() / seconds);
+        }
+    }
+}
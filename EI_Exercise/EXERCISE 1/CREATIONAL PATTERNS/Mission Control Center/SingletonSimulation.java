@@ -1,3 +1,10 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Singleton Pattern: MissionControl
  * Uses the Initialization-on-demand Holder Idiom for lazy and thread-safe creation.
@@ -26,15 +33,38 @@ public class SingletonSimulation {
         boolean isSame = (mc1 == mc2);
         System.out.println("mc1 == mc2? " + isSame);
         System.out.println(isSame ? "Success: Both references point to the SAME Singleton instance." : "Error: Different instances created.");
+
+        // Track several missions through the shared registry
+        System.out.println("\n--- Mission Registry ---");
+        MissionRegistry registry = mc1.getRegistry();
+        registry.register("Apollo", "Idle");
+        registry.register("Artemis", "Idle");
+        registry.register("Voyager", "In Flight");
+        registry.transition("Artemis", "Idle", "Launch Prep");
+        boolean stale = registry.transition("Artemis", "Idle", "Aborted");
+        System.out.println("Artemis status: " + mc2.getRegistry().getStatus("Artemis"));
+        System.out.println("Stale transition applied? " + stale);
+        System.out.println("Idle missions: " + registry.missionsWithStatus("Idle"));
+        System.out.println("Missions by status: " + registry.countByStatus());
+
+        // History survives the overwrite of the current status
+        System.out.println("\n--- Status History ---");
+        mc1.updateMissionStatus("Countdown");
+        System.out.println("Mission Control history: " + mc1.getHistory().since(0));
+        registry.updateStatus("Artemis", "Launch Prep");
+        System.out.println("Artemis changes in the last 60s: " + registry.transitionsInLast("Artemis", 60));
+        System.out.println("Artemis status now: " + registry.getStatusAt("Artemis", System.currentTimeMillis()));
     }
 }
 
 class MissionControl {
-    private String missionStatus;
+    // Status updates over time; the newest entry is the current status.
+    private final StatusHistory history = new StatusHistory(256);
+    private final MissionRegistry registry = new MissionRegistry();
 
     // 1. Private Constructor prevents direct instantiation
     private MissionControl() {
-        missionStatus = "Idle";
+        history.record("Idle");
         System.out.println("[Mission Control] Instance initialized (Status: Idle).");
     }
 
@@ -49,14 +79,130 @@ class MissionControl {
         return Holder.INSTANCE;
     }
 
-    // Thread-safe update method
+    // Writers are serialized so the history has a single producer; readers never take this lock.
     public synchronized void updateMissionStatus(String status) {
-        this.missionStatus = status;
+        history.record(status);
         System.out.println("[Mission Control] Mission status updated: " + status);
     }
 
-    // Thread-safe getter
-    public synchronized String getMissionStatus() {
-        return missionStatus;
+    // Lock-free read of the newest status
+    public String getMissionStatus() {
+        return history.latest();
+    }
+
+    public StatusHistory getHistory() {
+        return history;
+    }
+
+    // Multi-mission registry shared through the singleton
+    public MissionRegistry getRegistry() {
+        return registry;
+    }
+}
+
+/**
+ * Tracks the status of many missions keyed by mission id.
+ * Each mission's value is its StatusHistory, whose newest entry is the current status:
+ * reads never take a lock, and writers lock only the history of the mission they change,
+ * which keeps every history single-producer and makes transitions compare-and-set.
+ */
+class MissionRegistry {
+    static final int DEFAULT_HISTORY_CAPACITY = 16;
+
+    private final ConcurrentHashMap<String, StatusHistory> histories = new ConcurrentHashMap<>();
+    private final int historyCapacity;
+
+    public MissionRegistry() {
+        this(DEFAULT_HISTORY_CAPACITY);
+    }
+
+    public MissionRegistry(int historyCapacity) {
+        this.historyCapacity = historyCapacity;
+    }
+
+    // Registers a mission; returns false if the id is already tracked.
+    public boolean register(String missionId, String initialStatus) {
+        StatusHistory history = new StatusHistory(historyCapacity);
+        history.record(initialStatus);
+        return histories.putIfAbsent(missionId, history) == null;
+    }
+
+    public void updateStatus(String missionId, String status) {
+        while (true) {
+            StatusHistory history = histories.computeIfAbsent(missionId, id -> new StatusHistory(historyCapacity));
+            synchronized (history) {
+                // A concurrent remove() may have dropped this history; record into the live one instead.
+                if (histories.get(missionId) != history) continue;
+                history.record(status);
+                return;
+            }
+        }
+    }
+
+    // Atomically moves a mission from 'expected' to 'next'; false if another writer got there first.
+    public boolean transition(String missionId, String expected, String next) {
+        StatusHistory history = histories.get(missionId);
+        if (history == null) return false;
+        synchronized (history) {
+            if (histories.get(missionId) != history || !expected.equals(history.latest())) return false;
+            history.record(next);
+            return true;
+        }
+    }
+
+    public String getStatus(String missionId) {
+        StatusHistory history = histories.get(missionId);
+        return history == null ? null : history.latest();
+    }
+
+    // Status the mission had at 'timeMillis'; null if unknown or older than its retained history.
+    public String getStatusAt(String missionId, long timeMillis) {
+        StatusHistory history = histories.get(missionId);
+        return history == null ? null : history.statusAt(timeMillis);
+    }
+
+    // Status changes of the mission during the last 'seconds' seconds, oldest first; repeated statuses are skipped.
+    public List<StatusHistory.Entry> transitionsInLast(String missionId, long seconds) {
+        StatusHistory history = histories.get(missionId);
+        return history == null ? Collections.emptyList()
+                : history.transitionsSince(System.currentTimeMillis() - seconds * 1000);
+    }
+
+    public boolean remove(String missionId) {
+        return histories.remove(missionId) != null;
+    }
+
+    public int size() {
+        return histories.size();
+    }
+
+    // Bulk query: ids of all missions currently in the given status.
+    public List<String> missionsWithStatus(String status) {
+        List<String> result = new ArrayList<>();
+        histories.forEach((id, history) -> {
+            if (status.equals(history.latest())) result.add(id);
+        });
+        return result;
+    }
+
+    // Bulk query: number of missions per status.
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new HashMap<>();
+        histories.forEach((id, history) -> {
+            String s = history.latest();
+            if (s != null) counts.merge(s, 1L, Long::sum);
+        });
+        return counts;
+    }
+
+    // Immutable copy for reporting. Weakly consistent, not point-in-time: a mission updated during the
+    // copy may appear with its old or its new status, and missions (un)registered meanwhile may be missed.
+    public Map<String, String> snapshot() {
+        Map<String, String> copy = new HashMap<>();
+        histories.forEach((id, history) -> {
+            String s = history.latest();
+            if (s != null) copy.put(id, s);
+        });
+        return Collections.unmodifiableMap(copy);
     }
 }
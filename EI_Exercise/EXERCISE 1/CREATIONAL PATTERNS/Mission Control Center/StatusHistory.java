@@ -0,0 +1,199 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded, time-stamped status history: a single-producer, multi-consumer ring buffer.
+ * The newest 'capacity' updates are kept; older ones are overwritten.
+ *
+ * The writer never waits. Each slot carries a version that is odd while the slot is being
+ * written and 2 * (index + 1) once update 'index' is stored in it; readers copy a slot and
+ * re-check its version, so they either see one whole update or know it was overwritten
+ * and retry. Only one thread may record at a time (callers serialize writers).
+ */
+class StatusHistory {
+    private static final VarHandle HEAD;
+    private static final VarHandle STAMPS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle STATUSES = MethodHandles.arrayElementVarHandle(String[].class);
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(StatusHistory.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** One recorded update. */
+    static final class Entry {
+        final long timeMillis;
+        final String status;
+
+        Entry(long timeMillis, String status) {
+            this.timeMillis = timeMillis;
+            this.status = status;
+        }
+
+        @Override
+        public String toString() { return timeMillis + " " + status; }
+    }
+
+    private final int mask;
+    private final long[] stamps; // Version at 2 * slot, time at 2 * slot + 1: a reader's two loads share a line.
+    private final String[] statuses;
+    private volatile long head; // Number of updates recorded so far; accessed through HEAD.
+
+    StatusHistory(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("Capacity must be in [1, 2^30].");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1; // Round up to a power of two so the slot is index & mask.
+        this.mask = size - 1;
+        this.stamps = new long[2 * size];
+        this.statuses = new String[size];
+    }
+
+    int capacity() { return mask + 1; }
+
+    long recordedCount() { return (long) HEAD.getAcquire(this); }
+
+    // Wall-clock time, held at the previous entry's time if the clock steps back.
+    void record(String status) {
+        long index = (long) HEAD.getOpaque(this);
+        record(Math.max(System.currentTimeMillis(), index == 0 ? Long.MIN_VALUE : lastTime(index)), status);
+    }
+
+    /**
+     * Appends an update. Times must not go backwards, so lookups by time can binary-search.
+     */
+    void record(long timeMillis, String status) {
+        long index = (long) HEAD.getOpaque(this);
+        int slot = (int) (index & mask);
+        if (index > 0 && timeMillis < lastTime(index)) {
+            throw new IllegalArgumentException("Status times must not go backwards.");
+        }
+        STAMPS.setOpaque(stamps, 2 * slot, 2 * index + 1);
+        VarHandle.storeStoreFence(); // Readers must see the odd version before the slot changes.
+        STAMPS.setOpaque(stamps, 2 * slot + 1, timeMillis);
+        STATUSES.setOpaque(statuses, slot, status);
+        STAMPS.setRelease(stamps, 2 * slot, 2 * index + 2);
+        HEAD.setRelease(this, index + 1);
+    }
+
+    // Writer only: time of the update before 'index'.
+    private long lastTime(long index) {
+        return (long) STAMPS.getOpaque(stamps, 2 * (int) ((index - 1) & mask) + 1);
+    }
+
+    // Time of update 'index', or Long.MIN_VALUE if it has been overwritten (or is mid-write).
+    private long timeOf(long index) {
+        int slot = (int) (index & mask);
+        long before = (long) STAMPS.getAcquire(stamps, 2 * slot);
+        long time = (long) STAMPS.getOpaque(stamps, 2 * slot + 1);
+        VarHandle.loadLoadFence();
+        return before == 2 * index + 2 && (long) STAMPS.getOpaque(stamps, 2 * slot) == before ? time : Long.MIN_VALUE;
+    }
+
+    // Update 'index', or null if it has been overwritten.
+    private Entry entryOf(long index) {
+        int slot = (int) (index & mask);
+        long before = (long) STAMPS.getAcquire(stamps, 2 * slot);
+        long time = (long) STAMPS.getOpaque(stamps, 2 * slot + 1);
+        String status = (String) STATUSES.getOpaque(statuses, slot);
+        VarHandle.loadLoadFence();
+        return before == 2 * index + 2 && (long) STAMPS.getOpaque(stamps, 2 * slot) == before
+                ? new Entry(time, status) : null;
+    }
+
+    // Status of update 'index' without allocating, or null if it has been overwritten.
+    private String statusOf(long index) {
+        int slot = (int) (index & mask);
+        long before = (long) STAMPS.getAcquire(stamps, 2 * slot);
+        String status = (String) STATUSES.getOpaque(statuses, slot);
+        VarHandle.loadLoadFence();
+        return before == 2 * index + 2 && (long) STAMPS.getOpaque(stamps, 2 * slot) == before ? status : null;
+    }
+
+    /** Latest status, or null if nothing was recorded. */
+    String latest() {
+        while (true) {
+            long h = (long) HEAD.getAcquire(this);
+            if (h == 0) return null;
+            String status = statusOf(h - 1);
+            if (status != null) return status;
+        }
+    }
+
+    /**
+     * Status in effect at 'timeMillis': that of the last update at or before it.
+     * Null if the time precedes the oldest update still retained.
+     */
+    String statusAt(long timeMillis) {
+        retry:
+        while (true) {
+            long h = (long) HEAD.getAcquire(this);
+            long lo = Math.max(0, h - capacity());
+            long hi = h - 1;
+            long found = -1;
+            while (lo <= hi) {
+                long mid = (lo + hi) >>> 1;
+                long time = timeOf(mid);
+                if (time == Long.MIN_VALUE) continue retry; // Overwritten under us; the window moved.
+                if (time <= timeMillis) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            if (found < 0) return null;
+            String status = statusOf(found);
+            if (status != null) return status;
+        }
+    }
+
+    /**
+     * Updates recorded at or after 'fromMillis', oldest first, limited to what is still retained.
+     */
+    List<Entry> since(long fromMillis) {
+        List<Entry> result = new ArrayList<>();
+        long h = (long) HEAD.getAcquire(this);
+        for (long i = h - 1; i >= 0 && i >= h - capacity(); i--) {
+            Entry entry = entryOf(i);
+            if (entry == null || entry.timeMillis < fromMillis) break; // Older slots are gone or out of range.
+            result.add(entry);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Updates at or after 'fromMillis' that changed the status, oldest first. Repeats of the
+     * previous status are dropped; the oldest retained update counts as a change.
+     */
+    List<Entry> transitionsSince(long fromMillis) {
+        List<Entry> result = new ArrayList<>();
+        long h = (long) HEAD.getAcquire(this);
+        Entry newer = null; // In range; added once the update before it is known.
+        for (long i = h - 1; i >= 0 && i >= h - capacity(); i--) {
+            Entry entry = entryOf(i);
+            if (entry == null) break; // Overwritten: 'newer' has no retained predecessor.
+            if (newer != null && !Objects.equals(newer.status, entry.status)) result.add(newer);
+            if (entry.timeMillis < fromMillis) {
+                newer = null;
+                break;
+            }
+            newer = entry;
+        }
+        if (newer != null) result.add(newer);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /** Updates in the last 'seconds' seconds of wall-clock time. */
+    List<Entry> lastSeconds(long seconds) {
+        return since(System.currentTimeMillis() - seconds * 1000);
+    }
+}
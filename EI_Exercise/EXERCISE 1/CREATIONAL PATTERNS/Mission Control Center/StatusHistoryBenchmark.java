@@ -0,0 +1,133 @@
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Update throughput of one status writer while readers query the same history:
+ * a synchronized bounded deque (what a lock-based history would look like) versus StatusHistory.
+ * The writer records status STATUSES[t % 1024] at time t, so readers can check every answer.
+ * Usage: java StatusHistoryBenchmark [readers] [capacity] [seconds]
+ */
+public class StatusHistoryBenchmark {
+
+    interface History {
+        void record(long time, String status);
+        String statusAt(long time);
+        int countSince(long time);
+    }
+
+    // Baseline: readers and the writer serialize on one monitor.
+    static class SynchronizedHistory implements History {
+        private final ArrayDeque<StatusHistory.Entry> entries = new ArrayDeque<>();
+        private final int capacity;
+
+        SynchronizedHistory(int capacity) { this.capacity = capacity; }
+
+        public synchronized void record(long time, String status) {
+            if (entries.size() == capacity) entries.removeFirst();
+            entries.addLast(new StatusHistory.Entry(time, status));
+        }
+
+        public synchronized String statusAt(long time) {
+            for (Iterator<StatusHistory.Entry> it = entries.descendingIterator(); it.hasNext(); ) {
+                StatusHistory.Entry e = it.next();
+                if (e.timeMillis <= time) return e.status;
+            }
+            return null;
+        }
+
+        public synchronized int countSince(long time) {
+            int n = 0;
+            for (Iterator<StatusHistory.Entry> it = entries.descendingIterator(); it.hasNext(); n++) {
+                if (it.next().timeMillis < time) break;
+            }
+            return n;
+        }
+    }
+
+    static class RingHistory implements History {
+        private final StatusHistory history;
+
+        RingHistory(int capacity) { this.history = new StatusHistory(capacity); }
+
+        public void record(long time, String status) { history.record(time, status); }
+        public String statusAt(long time) { return history.statusAt(time); }
+        public int countSince(long time) { return history.since(time).size(); }
+    }
+
+    private static final String[] STATUSES = new String[1024];
+
+    public static void main(String[] args) throws InterruptedException {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        for (int i = 0; i < STATUSES.length; i++) STATUSES[i] = "Status-" + i;
+
+        System.out.printf("=== Status history: 1 writer, %d readers, capacity %d, %ds ===%n", readers, capacity, seconds);
+        run(new SynchronizedHistory(capacity), capacity, readers, 1, false);
+        run(new RingHistory(capacity), capacity, readers, 1, false);
+        run(new SynchronizedHistory(capacity), capacity, readers, seconds, true);
+        run(new RingHistory(capacity), capacity, readers, seconds, true);
+    }
+
+    private static void run(History history, int capacity, int readers, int seconds, boolean report)
+            throws InterruptedException {
+        LongAdder queries = new LongAdder();
+        LongAdder wrong = new LongAdder();
+        long[] written = new long[1];
+        AtomicLong latest = new AtomicLong(-1); // Last time recorded; readers query at or before it.
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L + 50_000_000L;
+
+        Thread writer = new Thread(() -> {
+            await(start);
+            long t = 0;
+            while (System.nanoTime() < deadline) {
+                for (int i = 0; i < 1024; i++, t++) history.record(t, STATUSES[(int) (t & 1023)]);
+                latest.set(t - 1);
+            }
+            written[0] = t;
+        });
+        Thread[] readerThreads = new Thread[readers];
+        for (int r = 0; r < readers; r++) {
+            readerThreads[r] = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                await(start);
+                long ops = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 256; i++) {
+                        long now = latest.get();
+                        if (now < 0) continue;
+                        long t = Math.max(0, now - rnd.nextInt(capacity));
+                        String status = history.statusAt(t);
+                        if (status != null && status != STATUSES[(int) (t & 1023)]) wrong.increment();
+                        if ((i & 15) == 0) history.countSince(Math.max(0, now - 16));
+                    }
+                    ops += 256;
+                }
+                queries.add(ops);
+            });
+            readerThreads[r].start();
+        }
+        writer.start();
+        start.countDown();
+        writer.join();
+        for (Thread t : readerThreads) t.join();
+
+        if (report) {
+            System.out.printf("%-20s updates: %,13d /s   queries: %,12d /s   wrong answers: %d%n",
+                    history.getClass().getSimpleName(), written[0] / seconds, queries.sum() / seconds, wrong.sum());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Compares the original switch-based factory with token, batch and pooled creation.
+ * There is no JMH in this project, so each case is warmed up and then timed over several rounds.
+ * Usage: java FactoryBenchmark [instancesPerRound] [rounds]
+ */
+public class FactoryBenchmark {
+
+    // The factory as it was before the registry: lowercase + switch on every call.
+    static Spacecraft legacyCreate(String type) {
+        switch (type.toLowerCase()) {
+            case "shuttle": return new Shuttle();
+            case "probe": return new Probe();
+            case "satellite": return new Satellite();
+            default: throw new IllegalArgumentException("Unknown spacecraft type: " + type);
+        }
+    }
+
+    interface Case { long run(int n); }
+
+    // Instances are stored here so escape analysis cannot remove the allocations being measured.
+    static final Spacecraft[] SINK = new Spacecraft[1024];
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String[] names = {"Shuttle", "Probe", "Satellite"};
+        SpacecraftType[] tokens = {SpacecraftRegistry.SHUTTLE, SpacecraftRegistry.PROBE, SpacecraftRegistry.SATELLITE};
+        SpacecraftPool pool = new SpacecraftPool(SpacecraftRegistry.PROBE, 1024).warmUp(1024);
+
+        System.out.printf("=== Spacecraft creation: %,d instances x %d rounds ===%n", n, rounds);
+        measure("legacy switch(String)", n, rounds, count -> {
+            long h = 0;
+            for (int i = 0; i < count; i++) h += keep(i, legacyCreate(names[i % 3]));
+            return h;
+        });
+        measure("createSpacecraft(String)", n, rounds, count -> {
+            long h = 0;
+            for (int i = 0; i < count; i++) h += keep(i, SpacecraftFactory.createSpacecraft(names[i % 3]));
+            return h;
+        });
+        measure("create(token)", n, rounds, count -> {
+            long h = 0;
+            for (int i = 0; i < count; i++) h += keep(i, SpacecraftFactory.create(tokens[i % 3]));
+            return h;
+        });
+        measure("createBatch(token, n)", n, rounds, count -> {
+            Spacecraft[] batch = SpacecraftFactory.createBatch(SpacecraftRegistry.PROBE, count);
+            return keep(0, batch[count - 1]);
+        });
+        measure("pool acquire/release", n, rounds, count -> {
+            long h = 0;
+            for (int i = 0; i < count; i++) {
+                Spacecraft craft = pool.acquire();
+                h += keep(i, craft);
+                pool.release(craft);
+            }
+            return h;
+        });
+    }
+
+    private static int keep(int i, Spacecraft craft) {
+        SINK[i & (SINK.length - 1)] = craft;
+        return craft instanceof Probe ? 1 : 0;
+    }
+
+    private static void measure(String label, int n, int rounds, Case c) {
+        long sink = 0;
+        for (int i = 0; i < 3; i++) sink += c.run(n); // Warm-up for the JIT.
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            sink += c.run(n);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-26s %8.2f ns/op (best of %d)%s%n", label, (double) best / n, rounds,
+                sink == 42 ? " " : "");
+    }
+}
@@ -1,8 +1,19 @@
+import java.util.ArrayDeque;
+import java.util.Map;
 import java.util.Scanner; // <-- Import MUST be at the top
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 // Abstract Product
 abstract class Spacecraft {
     public abstract void launch();
+
+    // Maintained by SpacecraftPool: the pool that created this instance and whether it sits in that pool.
+    SpacecraftPool pool;
+    boolean pooled;
+
+    // Called by SpacecraftPool before an instance is reused; override to clear per-mission state.
+    protected void reset() {}
 }
 
 // Concrete Products
@@ -21,20 +32,138 @@ class Satellite extends Spacecraft {
     public void launch() { System.out.println("Satellite deployed into orbit!"); }
 }
 
+/**
+ * Pre-resolved type token: look a type up by name once, then create from the token
+ * without any string handling.
+ */
+final class SpacecraftType {
+    private final String name;
+    private final Supplier<? extends Spacecraft> constructor;
+
+    SpacecraftType(String name, Supplier<? extends Spacecraft> constructor) {
+        this.name = name;
+        this.constructor = constructor;
+    }
+
+    public String getName() { return name; }
+
+    Spacecraft newInstance() { return constructor.get(); }
+
+    @Override
+    public String toString() { return name; }
+}
+
+/**
+ * Registry of spacecraft types. New types plug in with register() instead of editing a switch.
+ */
+final class SpacecraftRegistry {
+    private static final Map<String, SpacecraftType> TYPES = new ConcurrentHashMap<>();
+
+    public static final SpacecraftType SHUTTLE = register("shuttle", Shuttle::new);
+    public static final SpacecraftType PROBE = register("probe", Probe::new);
+    public static final SpacecraftType SATELLITE = register("satellite", Satellite::new);
+
+    private SpacecraftRegistry() {}
+
+    /**
+     * @throws IllegalArgumentException if a type with the same name is already registered.
+     */
+    public static SpacecraftType register(String name, Supplier<? extends Spacecraft> constructor) {
+        SpacecraftType type = new SpacecraftType(name.toLowerCase(), constructor);
+        if (TYPES.putIfAbsent(type.getName(), type) != null) {
+            throw new IllegalArgumentException("Spacecraft type already registered: " + name);
+        }
+        return type;
+    }
+
+    public static SpacecraftType resolve(String name) {
+        SpacecraftType type = TYPES.get(name.toLowerCase());
+        if (type == null) throw new IllegalArgumentException("Unknown spacecraft type: " + name);
+        return type;
+    }
+}
+
 // Factory Class
 class SpacecraftFactory {
     /**
      * Factory Method to create and return the requested Spacecraft object.
      */
     public static Spacecraft createSpacecraft(String type) {
-        // The switch statement looks correct and uses modern Java syntax for return
-        switch(type.toLowerCase()) {
-            case "shuttle": return new Shuttle();
-            case "probe": return new Probe();
-            case "satellite": return new Satellite();
-            default: throw new IllegalArgumentException("Unknown spacecraft type: " + type);
+        return create(SpacecraftRegistry.resolve(type));
+    }
+
+    public static Spacecraft create(SpacecraftType type) {
+        return type.newInstance();
+    }
+
+    // Creates 'n' spacecraft of one type in a single call.
+    public static Spacecraft[] createBatch(SpacecraftType type, int n) {
+        Spacecraft[] batch = new Spacecraft[n];
+        for (int i = 0; i < n; i++) batch[i] = type.newInstance();
+        return batch;
+    }
+}
+
+/**
+ * Recycles spacecraft of one type through an acquire/release lifecycle.
+ * Only instances acquired from a pool can be released to it, once per acquisition.
+ * Not thread-safe (the free list is a plain ArrayDeque): give each simulation thread its own pool.
+ */
+class SpacecraftPool {
+    private final SpacecraftType type;
+    private final ArrayDeque<Spacecraft> free;
+    private final int capacity;
+
+    public SpacecraftPool(SpacecraftType type, int capacity) {
+        this.type = type;
+        this.capacity = capacity;
+        this.free = new ArrayDeque<>(capacity);
+    }
+
+    // Pre-fills the pool so the first acquisitions do not allocate.
+    public SpacecraftPool warmUp(int count) {
+        for (int i = free.size(); i < Math.min(count, capacity); i++) {
+            Spacecraft craft = newInstance();
+            craft.pooled = true;
+            free.push(craft);
         }
+        return this;
+    }
+
+    public Spacecraft acquire() {
+        Spacecraft craft = free.poll();
+        if (craft == null) craft = newInstance();
+        craft.pooled = false;
+        return craft;
     }
+
+    /**
+     * Returns an instance acquired from this pool; instances beyond capacity are left to the GC.
+     * @throws IllegalArgumentException if the instance did not come from this pool (e.g. another type).
+     * @throws IllegalStateException if the instance was already released.
+     */
+    public void release(Spacecraft craft) {
+        if (craft.pool != this) {
+            throw new IllegalArgumentException(craft.getClass().getSimpleName() + " was not acquired from this "
+                    + type + " pool.");
+        }
+        if (craft.pooled) throw new IllegalStateException(type + " released twice.");
+        if (free.size() < capacity) {
+            craft.reset();
+            craft.pooled = true;
+            free.push(craft);
+        } else {
+            craft.pool = null; // Dropped: a later release of it is rejected rather than pooled.
+        }
+    }
+
+    private Spacecraft newInstance() {
+        Spacecraft craft = type.newInstance();
+        craft.pool = this;
+        return craft;
+    }
+
+    public int available() { return free.size(); }
 }
 
 // Simulation (Public class must match file name)
@@ -44,6 +173,10 @@ public class FactorySimulation {
         System.out.println("=== Spacecraft Factory Simulation (Factory Method Pattern) ===");
         System.out.println("Available types: Shuttle, Probe, Satellite");
 
+        // Bulk creation from a pre-resolved token
+        Spacecraft[] fleet = SpacecraftFactory.createBatch(SpacecraftRegistry.PROBE, 3);
+        System.out.println("Batch-created " + fleet.length + " probes.");
+
         while(true) {
             System.out.print("Enter spacecraft type to create (or 'exit'): ");
             String input = sc.nextLine();
@@ -1,5 +1,12 @@
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Component Interface: Defines the common operations for both simple and complex objects.
@@ -7,22 +14,81 @@ import java.util.List;
 interface SpaceStationComponent {
     // FIX: Changed signature to take NO arguments, assuming status() is a reporter method.
     String status(); 
+
+    // Streams the same report as status() straight into 'out', without building intermediate strings.
+    void render(Appendable out) throws IOException;
+
+    // Incrementally maintained health totals for this component's subtree.
+    int moduleCount();
+    int operationalCount();
+
+    // Set by CompositeModule on add/remove so changes can be propagated upwards.
+    void setParent(CompositeModule parent);
+    CompositeModule getParent();
+
+    // Display name (unique among siblings once attached to a SpaceStation) and station-wide unique id.
+    String name();
+    long id();
+}
+
+/**
+ * Hands out module ids that are unique for the lifetime of the JVM.
+ */
+final class ModuleIds {
+    private static final AtomicLong NEXT = new AtomicLong(1);
+
+    private ModuleIds() {}
+
+    static long next() { return NEXT.getAndIncrement(); }
 }
 
 /**
  * Leaf: Represents simple objects (individual modules).
  */
 class SolarPanelModule implements SpaceStationComponent {
+    private final long id = ModuleIds.next();
     private String name;
+    private boolean operational = true;
+    private CompositeModule parent;
 
     public SolarPanelModule(String name) {
         this.name = name;
     }
 
+    // Changing a leaf marks every ancestor's cached report dirty.
+    public void setOperational(boolean operational) {
+        if (this.operational == operational) return;
+        this.operational = operational;
+        if (parent != null) parent.childChanged(operational ? 1 : -1);
+    }
+
     @Override
     public String status() {
-        return " - Module " + name + " is fully operational.";
+        return " - Module " + name + (operational ? " is fully operational." : " is offline.");
+    }
+
+    @Override
+    public void render(Appendable out) throws IOException {
+        out.append(" - Module ").append(name).append(operational ? " is fully operational." : " is offline.");
     }
+
+    @Override
+    public int moduleCount() { return 1; }
+
+    @Override
+    public int operationalCount() { return operational ? 1 : 0; }
+
+    @Override
+    public void setParent(CompositeModule parent) { this.parent = parent; }
+
+    @Override
+    public CompositeModule getParent() { return parent; }
+
+    @Override
+    public String name() { return name; }
+
+    @Override
+    public long id() { return id; }
 }
 
 /**
@@ -30,33 +96,219 @@ class SolarPanelModule implements SpaceStationComponent {
  * Contains Leaf objects (modules) and other Composite objects (groups).
  */
 class CompositeModule implements SpaceStationComponent {
-    private List<SpaceStationComponent> children = new ArrayList<>();
+    // Insertion-ordered for the report, hash-based so remove() is O(1) instead of a list scan.
+    private Set<SpaceStationComponent> children = new LinkedHashSet<>();
+    private final long id = ModuleIds.next();
     private String name;
+    private CompositeModule parent;
+
+    // Dirty subtrees up to this many modules are built (and cached) in memory while streaming;
+    // larger ones are streamed piecewise, so render never holds more than one such report.
+    static final int RENDER_CACHE_LIMIT = 4096;
+
+    /*
+     * Cached report. Its text is held either in 'report' (this node owns the string) or inside
+     * the parent's text at 'reportOffset' characters from its start, so building a report copies
+     * each character once rather than once per level. A change below only clears 'reportValid':
+     * the stale text is kept because cached children may still point into it.
+     */
+    private String report;
+    private int reportOffset;
+    private int reportLength = -1;
+    private boolean reportValid;
+    private int moduleCount;
+    private int operationalCount;
 
     public CompositeModule(String name) {
         this.name = name;
     }
 
+    /**
+     * Attaches a component (and its subtree). When this node belongs to a SpaceStation the
+     * subtree is indexed as well.
+     * @throws IllegalArgumentException if the component already has a parent or its path is taken.
+     */
     public void add(SpaceStationComponent component) {
+        if (component.getParent() != null) {
+            throw new IllegalArgumentException("Module " + component.name() + " is already attached.");
+        }
+        SpaceStation station = station();
+        SpaceStation.Entries entries = station != null ? station.prepareIndex(this, component) : null;
+
         children.add(component);
+        component.setParent(this);
+        adjust(component.moduleCount(), component.operationalCount());
+        if (station != null) station.commitIndex(entries);
     }
 
     public void remove(SpaceStationComponent component) {
+        if (component.getParent() != this) return;
+        SpaceStation station = station();
+        if (station != null) station.unindex(component);
+        if (component instanceof CompositeModule) ((CompositeModule) component).ownReport();
+
         children.remove(component);
+        component.setParent(null);
+        adjust(-component.moduleCount(), -component.operationalCount());
+    }
+
+    // Read-only view of the direct children, in insertion order.
+    public Collection<SpaceStationComponent> getChildren() {
+        return Collections.unmodifiableCollection(children);
+    }
+
+    // The SpaceStation at the root of this tree, if any: O(depth).
+    SpaceStation station() {
+        CompositeModule node = this;
+        while (node.parent != null) node = node.parent;
+        return node instanceof SpaceStation ? (SpaceStation) node : null;
+    }
+
+    // Package-private hooks for parallel evaluation, which fills the cache from the outside.
+    boolean hasCachedStatus() { return reportValid; }
+
+    // Caches 'status' as this node's report, owned by this node. Composite children whose cached
+    // report pointed into the previous one must be pointed into 'status' (cacheWithinParent).
+    void cacheStatus(String status) {
+        report = status;
+        reportLength = status.length();
+        reportValid = true;
     }
 
+    // Points this node's cached report at its copy 'offset' characters into its parent's report,
+    // dropping the string it owned; the parent must cache a report containing that copy.
+    void cacheWithinParent(int offset) {
+        report = null;
+        reportOffset = offset;
+    }
+
+    // Called by a child whose operational count changed by 'delta'.
+    void childChanged(int delta) {
+        adjust(0, delta);
+    }
+
+    // Walks up to the root once, updating totals and invalidating each cached report: O(depth).
+    private void adjust(int moduleDelta, int operationalDelta) {
+        for (CompositeModule node = this; node != null; node = node.parent) {
+            node.moduleCount += moduleDelta;
+            node.operationalCount += operationalDelta;
+            node.reportValid = false;
+        }
+    }
+
+    /**
+     * Returns the cached report, rebuilding it only when something below changed. A rebuild is
+     * one pass into a builder presized from the children's last report lengths: clean children
+     * are copied from their cached text and dirty ones are rebuilt in place, so after a leaf
+     * change only the reports on its path to the root are rebuilt. A node whose report is held
+     * inside its parent's copies it out into its own string on the first call.
+     */
     @Override
     public String status() {
-        StringBuilder sb = new StringBuilder();
+        if (!reportValid) {
+            StringBuilder sb = new StringBuilder(estimatedLength());
+            build(sb);
+            cacheStatus(sb.toString());
+        } else if (report == null) {
+            ownReport();
+        }
+        return report;
+    }
+
+    // Streams the report. Cached subtrees are copied from their text; dirty subtrees of up to
+    // RENDER_CACHE_LIMIT modules go through status() and are cached, so later calls (and status())
+    // find most of the tree ready.
+    @Override
+    public void render(Appendable out) throws IOException {
+        if (reportValid) {
+            appendReport(out);
+            return;
+        }
+        if (moduleCount <= RENDER_CACHE_LIMIT || out instanceof StringBuilder) {
+            out.append(status());
+            return;
+        }
+        out.append("\n[Group: ").append(name).append(" Status Report]\n");
+        for (SpaceStationComponent component : children) {
+            component.render(out);
+            out.append("\n");
+        }
+    }
+
+    // Appends this node's report to 'sb' and points every composite child at its copy inside it.
+    // The caller gives this node its own location once the text containing 'sb' exists.
+    private void build(StringBuilder sb) {
+        int start = sb.length();
         sb.append("\n[Group: ").append(name).append(" Status Report]\n");
+        try {
+            for (SpaceStationComponent component : children) {
+                if (component instanceof CompositeModule) {
+                    CompositeModule child = (CompositeModule) component;
+                    int childStart = sb.length();
+                    if (child.reportValid) child.appendReport(sb);
+                    else child.build(sb);
+                    child.cacheWithinParent(childStart - start);
+                    child.reportLength = sb.length() - childStart;
+                    child.reportValid = true;
+                } else {
+                    component.render(sb);
+                }
+                sb.append("\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws.
+        }
+    }
 
+    // Length of the report a rebuild will produce, from the last lengths where there are any.
+    private int estimatedLength() {
+        long length = name.length() + 32;
         for (SpaceStationComponent component : children) {
-            // This is the call that was causing the error, 
-            // now fixed to call status() with no arguments.
-            sb.append(component.status()).append("\n");
+            if (component instanceof CompositeModule && ((CompositeModule) component).reportLength >= 0) {
+                length += ((CompositeModule) component).reportLength + 1;
+            } else {
+                length += (long) Math.max(1, component.moduleCount()) * (component.name().length() + 40);
+            }
         }
-        return sb.toString();
+        return (int) Math.min(length, Integer.MAX_VALUE - 8);
     }
+
+    // Copies the cached (possibly stale) report from wherever it is held: O(depth) to locate.
+    private void appendReport(Appendable out) throws IOException {
+        int start = 0;
+        CompositeModule owner = this;
+        for (; owner.report == null; owner = owner.parent) start += owner.reportOffset;
+        if (out instanceof Writer) ((Writer) out).write(owner.report, start, reportLength);
+        else out.append(owner.report, start, start + reportLength);
+    }
+
+    // Moves the cached report, if any, into a string of this node's own, e.g. before it is detached
+    // from the parent whose text holds it. Children pointing into it stay valid.
+    private void ownReport() {
+        if (report != null || reportLength < 0) return;
+        int start = 0;
+        CompositeModule owner = this;
+        for (; owner.report == null; owner = owner.parent) start += owner.reportOffset;
+        report = owner.report.substring(start, start + reportLength);
+    }
+
+    @Override
+    public int moduleCount() { return moduleCount; }
+
+    @Override
+    public int operationalCount() { return operationalCount; }
+
+    @Override
+    public void setParent(CompositeModule parent) { this.parent = parent; }
+
+    @Override
+    public CompositeModule getParent() { return parent; }
+
+    @Override
+    public String name() { return name; }
+
+    @Override
+    public long id() { return id; }
 }
 
 
@@ -70,7 +322,7 @@ public class CompositeSimulation {
         // --- 2. Create Composites (Groups) ---
         CompositeModule powerSystem = new CompositeModule("Power System");
         CompositeModule crewQuarters = new CompositeModule("Crew Quarters");
-        CompositeModule ISS = new CompositeModule("International Space Station");
+        SpaceStation ISS = new SpaceStation("International Space Station");
 
         // --- 3. Build the structure (Tree) ---
         powerSystem.add(panelA);
@@ -84,5 +336,25 @@ public class CompositeSimulation {
         // Calling status() on the composite runs the operation recursively on all components.
         System.out.println("--- Global ISS Status Check ---");
         System.out.println(ISS.status());
+
+        // --- 5. Change a leaf: only the reports on its path are rebuilt; Crew Quarters comes from its cache ---
+        panelB.setOperational(false);
+        System.out.println("--- Streaming ISS Status Check ---");
+        PrintWriter out = new PrintWriter(System.out);
+        try {
+            ISS.render(out);
+        } catch (IOException e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        out.flush();
+        System.out.println("Operational modules: " + ISS.operationalCount() + "/" + ISS.moduleCount());
+
+        // --- 6. Indexed lookup and removal by path ---
+        String path = "International Space Station/Power System/Solar Panel Array B";
+        SpaceStationComponent found = ISS.findByPath(path);
+        System.out.println("\nLookup " + path + " -> id " + found.id());
+        ISS.removeByPath(path);
+        System.out.println("After removal: " + ISS.operationalCount() + "/" + ISS.moduleCount()
+                + " operational, parallel audit agrees: " + (ISS.auditOperationalCount() == ISS.operationalCount()));
     }
 }
@@ -0,0 +1,281 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Root composite that keeps id, path and name indexes of every module in its tree.
+ * Paths are the '/'-joined names from the station down, e.g. "ISS/Power System/Panel A".
+ * The indexes are maintained by CompositeModule.add/remove, so lookups never walk the tree.
+ * Not thread-safe for mutation; parallel evaluation assumes the tree is not changed meanwhile.
+ */
+class SpaceStation extends CompositeModule {
+    // Subtrees at or below this many modules are evaluated sequentially.
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private final Map<Long, SpaceStationComponent> byId = new HashMap<>();
+    private final Map<String, SpaceStationComponent> byPath = new HashMap<>();
+    private final Map<SpaceStationComponent, String> pathOf = new HashMap<>();
+    private final Map<String, Set<SpaceStationComponent>> byName = new HashMap<>();
+
+    public SpaceStation(String name) {
+        super(name);
+        put(this, name);
+    }
+
+    public SpaceStationComponent findById(long id) { return byId.get(id); }
+
+    public SpaceStationComponent findByPath(String path) { return byPath.get(path); }
+
+    public Set<SpaceStationComponent> findByName(String name) {
+        Set<SpaceStationComponent> found = byName.get(name);
+        return found == null ? Collections.emptySet() : Collections.unmodifiableSet(found);
+    }
+
+    public String pathOf(SpaceStationComponent component) { return pathOf.get(component); }
+
+    public int indexedCount() { return byId.size(); }
+
+    // Removes the module (and its subtree) at 'path'; false if nothing is there.
+    public boolean removeByPath(String path) {
+        SpaceStationComponent component = byPath.get(path);
+        if (component == null || component == this) return false;
+        component.getParent().remove(component);
+        return true;
+    }
+
+    /**
+     * Renders the full report using the common fork-join pool: large subtrees are split by
+     * child and rendered concurrently, then stitched together in order. The result is cached.
+     */
+    public String parallelStatus() {
+        return ForkJoinPool.commonPool().invoke(new StatusTask(this));
+    }
+
+    /**
+     * Recounts operational modules from scratch in parallel, from the leaves' own state. This
+     * deliberately ignores the O(1) operationalCount() that add/remove/setOperational maintain:
+     * it is the independent check that those incremental totals have not drifted, e.g. after a
+     * long series of mutations in a benchmark or test.
+     */
+    public int auditOperationalCount() {
+        return ForkJoinPool.commonPool().invoke(new AuditTask(this));
+    }
+
+    // --- Index maintenance, called by CompositeModule ---
+
+    // Pending index entries for a subtree about to be attached; validated before any mutation.
+    static final class Entries {
+        private final List<SpaceStationComponent> components = new ArrayList<>();
+        private final List<String> paths = new ArrayList<>();
+    }
+
+    Entries prepareIndex(CompositeModule parent, SpaceStationComponent child) {
+        Entries entries = new Entries();
+        collect(child, pathOf.get(parent) + "/" + child.name(), entries);
+        Set<String> seen = new HashSet<>();
+        for (String path : entries.paths) {
+            if (byPath.containsKey(path) || !seen.add(path)) {
+                throw new IllegalArgumentException("A module already exists at " + path);
+            }
+        }
+        return entries;
+    }
+
+    void commitIndex(Entries entries) {
+        for (int i = 0; i < entries.components.size(); i++) {
+            put(entries.components.get(i), entries.paths.get(i));
+        }
+    }
+
+    void unindex(SpaceStationComponent component) {
+        byId.remove(component.id());
+        String path = pathOf.remove(component);
+        if (path != null) byPath.remove(path);
+        Set<SpaceStationComponent> named = byName.get(component.name());
+        if (named != null && named.remove(component) && named.isEmpty()) byName.remove(component.name());
+
+        if (component instanceof CompositeModule) {
+            for (SpaceStationComponent child : ((CompositeModule) component).getChildren()) unindex(child);
+        }
+    }
+
+    private void collect(SpaceStationComponent component, String path, Entries entries) {
+        entries.components.add(component);
+        entries.paths.add(path);
+        if (component instanceof CompositeModule) {
+            for (SpaceStationComponent child : ((CompositeModule) component).getChildren()) {
+                collect(child, path + "/" + child.name(), entries);
+            }
+        }
+    }
+
+    private void put(SpaceStationComponent component, String path) {
+        byId.put(component.id(), component);
+        byPath.put(path, component);
+        pathOf.put(component, path);
+        byName.computeIfAbsent(component.name(), n -> new LinkedHashSet<>()).add(component);
+    }
+
+    // --- Fork-join evaluation ---
+
+    /**
+     * Splits a node's children into parts for parallel evaluation: every composite child above
+     * PARALLEL_THRESHOLD is a part of its own (split further by its task), and the remaining
+     * children are grouped into runs of consecutive siblings covering at most PARALLEL_THRESHOLD
+     * modules, so a flat node with many leaves is spread over several tasks.
+     */
+    private static List<List<SpaceStationComponent>> split(CompositeModule node) {
+        List<List<SpaceStationComponent>> parts = new ArrayList<>();
+        List<SpaceStationComponent> run = new ArrayList<>();
+        int runModules = 0;
+        for (SpaceStationComponent child : node.getChildren()) {
+            int modules = child.moduleCount();
+            if (modules > PARALLEL_THRESHOLD || runModules + modules > PARALLEL_THRESHOLD) {
+                if (!run.isEmpty()) parts.add(run);
+                run = new ArrayList<>();
+                runModules = 0;
+            }
+            if (modules > PARALLEL_THRESHOLD) {
+                parts.add(Collections.singletonList(child));
+            } else {
+                run.add(child);
+                runModules += modules;
+            }
+        }
+        if (!run.isEmpty()) parts.add(run);
+        return parts;
+    }
+
+    private static boolean isLarge(List<SpaceStationComponent> part) {
+        return part.size() == 1 && part.get(0).moduleCount() > PARALLEL_THRESHOLD;
+    }
+
+    // Fork-join tasks are never serialized.
+    @SuppressWarnings("serial")
+    private static final class StatusTask extends RecursiveTask<String> {
+        private final CompositeModule node;
+
+        StatusTask(CompositeModule node) { this.node = node; }
+
+        @Override
+        protected String compute() {
+            if (node.hasCachedStatus() || node.moduleCount() <= PARALLEL_THRESHOLD) {
+                return node.status();
+            }
+            List<RecursiveTask<String>> parts = new ArrayList<>();
+            for (List<SpaceStationComponent> part : split(node)) {
+                parts.add(isLarge(part) ? new StatusTask((CompositeModule) part.get(0)) : new RunStatusTask(part));
+            }
+            invokeAll(parts);
+
+            // Children's reports are copied into this one and pointed at their copies, as in status().
+            String header = "\n[Group: " + node.name() + " Status Report]\n";
+            long length = header.length() + parts.size();
+            for (RecursiveTask<String> part : parts) length += part.join().length();
+            StringBuilder sb = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE - 8));
+            sb.append(header);
+            for (RecursiveTask<String> part : parts) {
+                int base = sb.length();
+                sb.append(part.join());
+                if (part instanceof StatusTask) {
+                    ((StatusTask) part).node.cacheWithinParent(base);
+                    sb.append("\n");
+                } else {
+                    ((RunStatusTask) part).cacheWithinParent(base);
+                }
+            }
+            String status = sb.toString();
+            node.cacheStatus(status);
+            return status;
+        }
+    }
+
+    // Renders a run of siblings, each followed by a newline as in CompositeModule.status. Composite
+    // siblings are cached by render; 'offsets' records where each sibling starts in the result.
+    @SuppressWarnings("serial")
+    private static final class RunStatusTask extends RecursiveTask<String> {
+        private final List<SpaceStationComponent> run;
+        private final int[] offsets;
+
+        RunStatusTask(List<SpaceStationComponent> run) {
+            this.run = run;
+            this.offsets = new int[run.size()];
+        }
+
+        @Override
+        protected String compute() {
+            StringBuilder sb = new StringBuilder();
+            try {
+                for (int i = 0; i < run.size(); i++) {
+                    offsets[i] = sb.length();
+                    run.get(i).render(sb);
+                    sb.append("\n");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringBuilder never throws.
+            }
+            return sb.toString();
+        }
+
+        // Points the composite siblings at their copies once the result sits at 'base' in the parent's report.
+        void cacheWithinParent(int base) {
+            for (int i = 0; i < run.size(); i++) {
+                if (run.get(i) instanceof CompositeModule) ((CompositeModule) run.get(i)).cacheWithinParent(base + offsets[i]);
+            }
+        }
+    }
+
+    // The audit only reads leaves' own state; the composite totals it is checked against are never consulted.
+    @SuppressWarnings("serial")
+    private static final class AuditTask extends RecursiveTask<Integer> {
+        private final CompositeModule node;
+
+        AuditTask(CompositeModule node) { this.node = node; }
+
+        @Override
+        protected Integer compute() {
+            if (node.moduleCount() <= PARALLEL_THRESHOLD) return countSequential(node);
+
+            List<RecursiveTask<Integer>> parts = new ArrayList<>();
+            for (List<SpaceStationComponent> part : split(node)) {
+                parts.add(isLarge(part) ? new AuditTask((CompositeModule) part.get(0)) : new RunAuditTask(part));
+            }
+            invokeAll(parts);
+            int total = 0;
+            for (RecursiveTask<Integer> part : parts) total += part.join();
+            return total;
+        }
+
+        static int countSequential(SpaceStationComponent component) {
+            if (!(component instanceof CompositeModule)) return component.operationalCount();
+            int total = 0;
+            for (SpaceStationComponent child : ((CompositeModule) component).getChildren()) {
+                total += countSequential(child);
+            }
+            return total;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class RunAuditTask extends RecursiveTask<Integer> {
+        private final List<SpaceStationComponent> run;
+
+        RunAuditTask(List<SpaceStationComponent> run) { this.run = run; }
+
+        @Override
+        protected Integer compute() {
+            int total = 0;
+            for (SpaceStationComponent component : run) total += AuditTask.countSequential(component);
+            return total;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds large station trees and times indexing, lookup, removal and evaluation.
+ * Usage: java -Xmx4g StationTreeBenchmark [modules...]   (default: 100000 1000000)
+ */
+public class StationTreeBenchmark {
+    // Modules per group: 100 panels per section, 100 sections per wing.
+    private static final int FANOUT = 100;
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0 ? parse(args) : new int[] {100_000, 1_000_000};
+        for (int size : sizes) run(size);
+    }
+
+    private static void run(int modules) throws IOException {
+        System.out.printf("%n=== %,d modules ===%n", modules);
+        List<SolarPanelModule> panels = new ArrayList<>(modules);
+
+        long t0 = System.nanoTime();
+        SpaceStation station = build(modules, panels);
+        report("build + index", t0, modules);
+
+        Random random = new Random(42);
+        int lookups = 100_000;
+        t0 = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < lookups; i++) {
+            SolarPanelModule panel = panels.get(random.nextInt(panels.size()));
+            if (station.findById(panel.id()) == panel) hits++;
+        }
+        report("lookup by id", t0, lookups);
+
+        String[] paths = new String[lookups];
+        for (int i = 0; i < lookups; i++) paths[i] = station.pathOf(panels.get(random.nextInt(panels.size())));
+        t0 = System.nanoTime();
+        for (String path : paths) if (station.findByPath(path) != null) hits++;
+        report("lookup by path", t0, lookups);
+
+        // Evaluations fill per-node caches, so each one below runs on a cold tree.
+        SpaceStation streamed = build(modules, new ArrayList<>(modules));
+        t0 = System.nanoTime();
+        streamed.render(NULL_WRITER);
+        report("render(Writer)", t0, modules);
+        t0 = System.nanoTime();
+        streamed.render(NULL_WRITER);
+        report("render(Writer) again", t0, modules);
+        streamed = null;
+
+        t0 = System.nanoTime();
+        String parallel = station.parallelStatus();
+        report("status() fork-join", t0, modules);
+
+        int changes = 100;
+        t0 = System.nanoTime();
+        for (int i = 0; i < changes; i++) {
+            SolarPanelModule panel = panels.get(random.nextInt(panels.size()));
+            panel.setOperational(false);
+            station.status();
+            panel.setOperational(true);
+        }
+        station.status();
+        report("status() after 1 change", t0, 2 * changes + 1);
+
+        SpaceStation cold = build(modules, new ArrayList<>(modules));
+        t0 = System.nanoTime();
+        String sequential = cold.status();
+        report("status() sequential", t0, modules);
+        cold = null;
+
+        t0 = System.nanoTime();
+        int audited = station.auditOperationalCount();
+        report("health audit fork-join", t0, modules);
+
+        int removals = Math.min(10_000, modules / 10);
+        t0 = System.nanoTime();
+        for (int i = 0; i < removals; i++) {
+            SolarPanelModule panel = panels.get(i * 7 % panels.size());
+            if (panel.getParent() != null) panel.getParent().remove(panel);
+        }
+        report("remove leaf", t0, removals);
+
+        System.out.printf("checks: hits=%d, reports equal=%b, audit=%d, remaining=%d, indexed=%d%n",
+                hits, sequential.equals(parallel), audited, station.moduleCount(), station.indexedCount());
+    }
+
+    private static SpaceStation build(int modules, List<SolarPanelModule> panels) {
+        SpaceStation station = new SpaceStation("ISS");
+        for (int wing = 0; panels.size() < modules; wing++) {
+            CompositeModule wingModule = new CompositeModule("Wing " + wing);
+            station.add(wingModule);
+            for (int section = 0; section < FANOUT && panels.size() < modules; section++) {
+                CompositeModule sectionModule = new CompositeModule("Section " + section);
+                wingModule.add(sectionModule);
+                for (int p = 0; p < FANOUT && panels.size() < modules; p++) {
+                    SolarPanelModule panel = new SolarPanelModule("Panel " + p);
+                    sectionModule.add(panel);
+                    panels.add(panel);
+                }
+            }
+        }
+        return station;
+    }
+
+    private static void report(String label, long startNanos, int ops) {
+        long nanos = System.nanoTime() - startNanos;
+        System.out.printf("%-24s %10.1f ms  %10.1f ns/op%n", label, nanos / 1e6, (double) nanos / ops);
+    }
+
+    private static int[] parse(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+        return sizes;
+    }
+
+    private static final Writer NULL_WRITER = new Writer() {
+        @Override public void write(char[] buf, int off, int len) {}
+        @Override public void write(String str, int off, int len) {}
+        @Override public Writer append(CharSequence csq) { return this; }
+        @Override public void flush() {}
+        @Override public void close() {}
+    };
+}
@@ -0,0 +1,292 @@
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * Splits a satellite dump into fixed-size ranges and downloads them concurrently through
+ * several ground stations. Each range is read back and checked against the satellite's
+ * CRC32C; verified ranges are appended to a sidecar file (<target>.progress), so a
+ * later run only fetches what is still missing. On resume, each recorded range is checked
+ * against its recorded CRC again before it is trusted.
+ *
+ * Sidecar format: first line "size=<bytes> chunk=<bytes>", then one "<index> <crc>" per verified range.
+ */
+public class RangeDownloadManager {
+    private final NasaSatellite satellite;
+    private final List<GroundStation> stations;
+    private final long chunkSize;
+
+    /**
+     * @throws IllegalArgumentException if there are no stations, chunkSize is not positive, or the
+     *                                  dump would split into more than Integer.MAX_VALUE ranges.
+     */
+    public RangeDownloadManager(NasaSatellite satellite, List<GroundStation> stations, long chunkSize) {
+        if (stations.isEmpty()) throw new IllegalArgumentException("At least one ground station is required.");
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        if (chunkCount(satellite.dumpSizeBytes(), chunkSize) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size " + chunkSize + " splits the dump into too many ranges.");
+        }
+        this.satellite = satellite;
+        this.stations = stations;
+        this.chunkSize = chunkSize;
+    }
+
+    // Per-station throughput for one run.
+    static final class StationReport {
+        final String station;
+        long bytes;
+        long ranges;
+        long busyNanos;
+        String failure;
+
+        StationReport(String station) { this.station = station; }
+
+        @Override
+        public String toString() {
+            double mbps = busyNanos == 0 ? 0 : bytes / 1e6 / (busyNanos / 1e9);
+            return String.format("%-12s %5d ranges %,14d bytes %8.1f MB/s%s", station, ranges, bytes, mbps,
+                    failure == null ? "" : "  (dropped: " + failure + ")");
+        }
+    }
+
+    /**
+     * Downloads every range not already recorded in the sidecar.
+     * @return true if the file is complete and verified; false if ranges are still missing.
+     */
+    public boolean download(Path target) throws IOException, InterruptedException {
+        long size = satellite.dumpSizeBytes();
+        int chunks = (int) chunkCount(size, chunkSize);
+        Path sidecar = target.resolveSibling(target.getFileName() + ".progress");
+        long[] recorded = new long[chunks];
+        BitSet done = loadProgress(sidecar, size, chunks, recorded);
+
+        try (RandomAccessFile raf = new RandomAccessFile(target.toFile(), "rw")) {
+            // transferFrom ignores positions past end-of-file, so size the file up front.
+            if (raf.length() != size) raf.setLength(size);
+        }
+        int corrupt = verifyRestored(target, size, done, recorded);
+
+        BlockingQueue<Integer> pending = new LinkedBlockingQueue<>();
+        for (int i = done.nextClearBit(0); i < chunks; i = done.nextClearBit(i + 1)) pending.add(i);
+        System.out.printf("[Download Manager] %d of %d ranges to fetch (%d already verified, %d failed re-verification).%n",
+                pending.size(), chunks, done.cardinality(), corrupt);
+        // Ranges not yet verified, including those a dropped station handed back.
+        AtomicInteger outstanding = new AtomicInteger(pending.size());
+
+        List<StationReport> reports = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(stations.size());
+        try (FileChannel file = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            for (GroundStation station : stations) {
+                StationReport report = new StationReport(station.getName());
+                reports.add(report);
+                workers.execute(() -> fetch(station, report, pending, outstanding, file, size, sidecar, done));
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            file.force(true);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        for (StationReport report : reports) System.out.println("[Download Manager] " + report);
+        boolean complete;
+        synchronized (done) {
+            complete = done.cardinality() == chunks;
+        }
+        if (complete) {
+            Files.deleteIfExists(sidecar);
+        } else {
+            System.out.printf("[Download Manager] %d ranges missing; progress kept in %s%n",
+                    chunks - done.cardinality(), sidecar);
+        }
+        return complete;
+    }
+
+    /**
+     * Worker loop: take ranges until every range is verified or this station drops out. An
+     * empty queue is not the end while ranges are outstanding, since a station that drops out
+     * hands its range back; once every station has dropped out, no worker is left to wait.
+     */
+    private void fetch(GroundStation station, StationReport report, BlockingQueue<Integer> pending,
+                       AtomicInteger outstanding, FileChannel file, long size, Path sidecar, BitSet done) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        while (outstanding.get() > 0) {
+            Integer chunk;
+            try {
+                chunk = pending.poll(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (chunk == null) continue;
+            long offset = chunk * chunkSize;
+            long length = Math.min(chunkSize, size - offset);
+            long start = System.nanoTime();
+            try {
+                station.downloadRange(offset, length, file);
+                long crc = checksum(file, offset, length, buffer);
+                if (crc != satellite.checksum(offset, offset + length)) {
+                    throw new IOException("checksum mismatch in range " + chunk);
+                }
+                file.force(false); // Data must be durable before the sidecar says it is there.
+                recordProgress(sidecar, done, chunk, crc);
+                outstanding.decrementAndGet();
+                report.bytes += length;
+                report.ranges++;
+            } catch (IOException | RuntimeException e) {
+                // Hand the range to the remaining stations and retire this one.
+                pending.add(chunk);
+                report.failure = e.getMessage();
+                return;
+            } finally {
+                report.busyNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    private static long checksum(FileChannel file, long offset, long length, ByteBuffer buffer) throws IOException {
+        CRC32C crc = new CRC32C();
+        long position = offset;
+        long end = offset + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int n = file.read(buffer, position);
+            if (n < 0) throw new IOException("Unexpected end of file at " + position);
+            buffer.flip();
+            crc.update(buffer);
+            position += n;
+        }
+        return crc.getValue();
+    }
+
+    private static void recordProgress(Path sidecar, BitSet done, int chunk, long crc) throws IOException {
+        synchronized (done) {
+            Files.write(sidecar, (chunk + " " + Long.toHexString(crc) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+            done.set(chunk);
+        }
+    }
+
+    /**
+     * Reads verified ranges and their CRCs (into 'recorded') from a previous run; a sidecar for
+     * a different dump layout is discarded. Malformed lines, e.g. one torn by a crash
+     * mid-append, are skipped, so their ranges are fetched again.
+     */
+    private BitSet loadProgress(Path sidecar, long size, int chunks, long[] recorded) throws IOException {
+        BitSet done = new BitSet(chunks);
+        String header = "size=" + size + " chunk=" + chunkSize;
+        if (Files.exists(sidecar)) {
+            List<String> lines = Files.readAllLines(sidecar, StandardCharsets.UTF_8);
+            if (!lines.isEmpty() && lines.get(0).equals(header)) {
+                for (String line : lines.subList(1, lines.size())) {
+                    String[] parts = line.trim().split(" ");
+                    if (parts.length != 2) continue;
+                    try {
+                        int index = Integer.parseInt(parts[0]);
+                        long crc = Long.parseLong(parts[1], 16);
+                        if (index >= 0 && index < chunks) {
+                            done.set(index);
+                            recorded[index] = crc;
+                        }
+                    } catch (NumberFormatException torn) {
+                        // Not a complete entry; the range is simply fetched again.
+                    }
+                }
+                return done;
+            }
+        }
+        Files.write(sidecar, (header + "\n").getBytes(StandardCharsets.UTF_8));
+        return done;
+    }
+
+    // Number of ranges of at most chunkSize bytes covering 'size' bytes; cannot overflow.
+    private static long chunkCount(long size, long chunkSize) {
+        return size == 0 ? 0 : (size - 1) / chunkSize + 1;
+    }
+
+    // Clears restored ranges whose bytes on disk no longer match their recorded CRC; returns how many.
+    private int verifyRestored(Path target, long size, BitSet done, long[] recorded) throws IOException {
+        int cleared = 0;
+        if (done.isEmpty()) return cleared;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (FileChannel file = FileChannel.open(target, StandardOpenOption.READ)) {
+            for (int i = done.nextSetBit(0); i >= 0; i = done.nextSetBit(i + 1)) {
+                long offset = i * chunkSize;
+                if (checksum(file, offset, Math.min(chunkSize, size - offset), buffer) != recorded[i]) {
+                    done.clear(i);
+                    cleared++;
+                }
+            }
+        }
+        return cleared;
+    }
+
+    public static void main(String[] args) throws Exception {
+        long records = args.length > 0 ? Long.parseLong(args[0]) : 4_000_000;
+        NasaSatellite satellite = new NasaSatellite(records);
+        Path target = Files.createTempDirectory("telemetry").resolve("pass.raw");
+        long chunk = 1 << 20;
+
+        // First pass: every station loses the signal partway through.
+        List<GroundStation> firstPass = List.of(
+                new DroppingGroundStation(new SatelliteAdapter(satellite, "Goldstone"), 20),
+                new DroppingGroundStation(new SatelliteAdapter(satellite, "Madrid"), 8),
+                new DroppingGroundStation(new SatelliteAdapter(satellite, "Canberra"), 3));
+        boolean complete = new RangeDownloadManager(satellite, firstPass, chunk).download(target);
+        System.out.println("[Download Manager] First pass complete? " + complete);
+
+        // Second pass resumes from the sidecar.
+        List<GroundStation> secondPass = List.of(
+                new SatelliteAdapter(satellite, "Goldstone"),
+                new SatelliteAdapter(satellite, "Madrid"),
+                new SatelliteAdapter(satellite, "Canberra"));
+        complete = new RangeDownloadManager(satellite, secondPass, chunk).download(target);
+        System.out.println("[Download Manager] Resumed pass complete? " + complete + " -> " + target);
+    }
+}
+
+/**
+ * Simulates a lost pass: delegates to a real station but fails after a fixed number of ranges.
+ */
+class DroppingGroundStation implements GroundStation {
+    private final GroundStation delegate;
+    private int rangesLeft;
+
+    DroppingGroundStation(GroundStation delegate, int rangesBeforeDrop) {
+        this.delegate = delegate;
+        this.rangesLeft = rangesBeforeDrop;
+    }
+
+    @Override
+    public void downloadData(String format) { delegate.downloadData(format); }
+
+    @Override
+    public long downloadData(String format, Path destination) throws IOException {
+        return delegate.downloadData(format, destination);
+    }
+
+    @Override
+    public long downloadRange(long offset, long length, FileChannel destination) throws IOException {
+        if (rangesLeft-- <= 0) throw new IOException("signal lost");
+        return delegate.downloadRange(offset, length, destination);
+    }
+
+    @Override
+    public String getName() { return delegate.getName(); }
+}
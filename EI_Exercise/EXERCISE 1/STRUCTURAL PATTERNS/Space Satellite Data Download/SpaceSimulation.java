@@ -1,40 +1,178 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
 // Target interface (Ground station expects this)
 interface GroundStation {
     void downloadData(String format);
+
+    // Streams the full telemetry pass to 'destination' in the requested format; returns bytes written.
+    long downloadData(String format, Path destination) throws IOException;
+
+    // Writes raw bytes [offset, offset + length) of the pass into 'destination' at the same offset.
+    long downloadRange(long offset, long length, FileChannel destination) throws IOException;
+
+    default String getName() { return getClass().getSimpleName(); }
 }
 
 // Adaptee (NASA Satellite with different interface)
 class NasaSatellite {
+    private final long records;
+
+    public NasaSatellite() { this(1_000_000); }
+
+    public NasaSatellite(long records) {
+        this.records = records;
+    }
+
     public void fetchTelemetry(String protocol) {
         System.out.println("[NASA Satellite] Sending telemetry via: " + protocol);
     }
+
+    // Opens the binary dump as a channel; data is produced as it is read.
+    public ReadableByteChannel openTelemetry(String protocol) {
+        fetchTelemetry(protocol);
+        return new TelemetryChannel(0, dumpSizeBytes());
+    }
+
+    // Opens bytes [start, end) of the binary dump.
+    public ReadableByteChannel openTelemetry(String protocol, long start, long end) {
+        if (start < 0 || end > dumpSizeBytes() || start > end) {
+            throw new IllegalArgumentException("Invalid telemetry range: " + start + ".." + end);
+        }
+        return new TelemetryChannel(start, end);
+    }
+
+    // Satellite-side CRC32C of bytes [start, end), used by the ground to verify each range.
+    public long checksum(long start, long end) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        try (ReadableByteChannel channel = new TelemetryChannel(start, end)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    public long dumpSizeBytes() {
+        return records * TelemetryRecord.BYTES;
+    }
 }
 
 // Adapter (converts GroundStation request → Satellite protocol)
 class SatelliteAdapter implements GroundStation {
+    // 64 KiB direct buffers shared by every adapter instance.
+    private static final DirectBufferPool BUFFERS = new DirectBufferPool(64 * 1024);
+
     private NasaSatellite satellite;
+    private final String name;
 
     public SatelliteAdapter(NasaSatellite satellite) {
+        this(satellite, "SatelliteAdapter");
+    }
+
+    public SatelliteAdapter(NasaSatellite satellite, String name) {
         this.satellite = satellite;
+        this.name = name;
     }
 
+    @Override
+    public String getName() { return name; }
+
     @Override
     public void downloadData(String format) {
         // Convert format request into protocol
         String protocol = "[Converted to Protocol] " + format;
         satellite.fetchTelemetry(protocol);
     }
+
+    /**
+     * RAW passes the satellite bytes to the file with FileChannel.transferFrom; CSV and JSON are
+     * transcoded through pooled direct buffers. Neither path holds more than one buffer of payload.
+     */
+    @Override
+    public long downloadData(String format, Path destination) throws IOException {
+        TelemetryFormat target = TelemetryFormat.parse(format);
+        String protocol = "[Converted to Protocol] " + format;
+
+        try (ReadableByteChannel source = satellite.openTelemetry(protocol);
+             FileChannel file = FileChannel.open(destination, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (target != TelemetryFormat.RAW) {
+                return new TelemetryEncoder(target).transcode(source, file, BUFFERS);
+            }
+            long size = satellite.dumpSizeBytes();
+            long position = 0;
+            while (position < size) {
+                long n = file.transferFrom(source, position, size - position);
+                if (n <= 0) throw new IOException("Downlink stalled at byte " + position);
+                position += n;
+            }
+            return position;
+        }
+    }
+
+    // Positional transfer; safe to call concurrently from several stations on one FileChannel.
+    @Override
+    public long downloadRange(long offset, long length, FileChannel destination) throws IOException {
+        try (ReadableByteChannel source = satellite.openTelemetry("[Range] RAW", offset, offset + length)) {
+            long done = 0;
+            while (done < length) {
+                long n = destination.transferFrom(source, offset + done, length - done);
+                if (n <= 0) throw new IOException("Downlink stalled at byte " + (offset + done));
+                done += n;
+            }
+            return done;
+        }
+    }
+
+    // Copies a finished download to an archive location with FileChannel.transferTo.
+    public static long archive(Path download, Path archive) throws IOException {
+        try (FileChannel in = FileChannel.open(download, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(archive, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long n = in.transferTo(position, size - position, out);
+                if (n <= 0) throw new IOException("Archive stalled at byte " + position + " of " + download);
+                position += n;
+            }
+            return position;
+        }
+    }
 }
 
 // Client Simulation
 public class SpaceSimulation {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         // Ground station wants "JSON" data
         GroundStation station = new SatelliteAdapter(new NasaSatellite());
 
         // Adapter makes it compatible with NASA satellite
         station.downloadData("JSON");
+
+        // Stream a full pass to disk in each format (record count can be passed as an argument)
+        long records = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        GroundStation downlink = new SatelliteAdapter(new NasaSatellite(records));
+        Path dir = Files.createTempDirectory("telemetry");
+        for (String format : new String[] {"RAW", "CSV", "JSON"}) {
+            Path target = dir.resolve("pass." + format.toLowerCase());
+            long start = System.nanoTime();
+            long bytes = downlink.downloadData(format, target);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("[Ground Station] %s: %,d bytes -> %s (%.1f MB/s)%n",
+                    format, bytes, target, bytes / 1e6 / seconds);
+        }
+        long archived = SatelliteAdapter.archive(dir.resolve("pass.raw"), dir.resolve("pass.raw.bak"));
+        System.out.printf("[Ground Station] Archived %,d bytes of raw telemetry.%n", archived);
     }
 }
-
-
@@ -0,0 +1,215 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Ground-side formats the adapter can produce from the satellite's binary dump.
+ */
+enum TelemetryFormat {
+    RAW, CSV, JSON;
+
+    public static TelemetryFormat parse(String format) {
+        for (TelemetryFormat f : values()) {
+            if (f.name().equalsIgnoreCase(format.trim())) return f;
+        }
+        throw new IllegalArgumentException("Unsupported telemetry format: " + format);
+    }
+}
+
+/**
+ * Satellite wire format: fixed-size big-endian records.
+ * [long timestampMillis][int sensorId][int readingMilli]
+ */
+final class TelemetryRecord {
+    static final int BYTES = 16;
+    static final long EPOCH_MILLIS = 1_700_000_000_000L;
+    static final int SENSORS = 16;
+
+    private TelemetryRecord() {}
+
+    // Deterministic content so any record (or byte range) can be regenerated on demand.
+    static long timestamp(long index) { return EPOCH_MILLIS + index * 10; }
+    static int sensorId(long index) { return (int) (index % SENSORS); }
+    static int readingMilli(long index) { return (int) Math.floorMod(index * 2654435761L, 200_000L) - 100_000; }
+}
+
+/**
+ * Simulated downlink: produces bytes [position, end) of the telemetry dump on demand,
+ * so an arbitrarily large pass never exists in memory.
+ */
+class TelemetryChannel implements ReadableByteChannel {
+    private final byte[] scratch = new byte[TelemetryRecord.BYTES];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(scratch);
+    private long position;
+    private final long end;
+    private boolean open = true;
+
+    TelemetryChannel(long start, long end) {
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!open) throw new ClosedChannelException();
+        if (position >= end) return -1;
+        int written = 0;
+        while (dst.hasRemaining() && position < end) {
+            long index = position / TelemetryRecord.BYTES;
+            int offset = (int) (position % TelemetryRecord.BYTES);
+            int length = (int) Math.min(Math.min(TelemetryRecord.BYTES - offset, dst.remaining()), end - position);
+            if (offset == 0 && length == TelemetryRecord.BYTES) {
+                dst.putLong(TelemetryRecord.timestamp(index))
+                   .putInt(TelemetryRecord.sensorId(index))
+                   .putInt(TelemetryRecord.readingMilli(index));
+            } else {
+                // Range boundaries may split a record; build it once and copy the slice needed.
+                scratchBuffer.clear();
+                scratchBuffer.putLong(TelemetryRecord.timestamp(index))
+                             .putInt(TelemetryRecord.sensorId(index))
+                             .putInt(TelemetryRecord.readingMilli(index));
+                dst.put(scratch, offset, length);
+            }
+            position += length;
+            written += length;
+        }
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() { return open; }
+
+    @Override
+    public void close() { open = false; }
+}
+
+/**
+ * Pool of direct buffers shared by all downloads, so steady-state transfers allocate nothing.
+ */
+class DirectBufferPool {
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final int bufferSize;
+
+    DirectBufferPool(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        free.offer(buffer);
+    }
+}
+
+/**
+ * Streams binary records into CSV or JSON text, one buffer at a time.
+ * Numbers are written digit by digit straight into the output buffer; no Strings per record.
+ */
+class TelemetryEncoder {
+    // Longest encoded record (JSON with 19-digit timestamp and separators) fits comfortably.
+    private static final int MAX_RECORD_CHARS = 96;
+
+    private final TelemetryFormat format;
+    private final byte[] digits = new byte[20];
+    private boolean first = true;
+
+    TelemetryEncoder(TelemetryFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Reads records from 'source' until end of stream and writes the encoded text to 'sink'.
+     * @return number of bytes written.
+     */
+    long transcode(ReadableByteChannel source, WritableByteChannel sink, DirectBufferPool pool) throws IOException {
+        ByteBuffer in = pool.acquire();
+        ByteBuffer out = pool.acquire();
+        long total = 0;
+        try {
+            putAscii(out, format == TelemetryFormat.CSV ? "timestamp,sensor,reading\n" : "[\n");
+            boolean eof = false;
+            while (!eof) {
+                eof = source.read(in) < 0;
+                in.flip();
+                while (in.remaining() >= TelemetryRecord.BYTES) {
+                    if (out.remaining() < MAX_RECORD_CHARS) total += drain(out, sink);
+                    encode(in.getLong(), in.getInt(), in.getInt(), out);
+                }
+                if (eof && in.hasRemaining()) {
+                    throw new IOException("Telemetry stream ended inside a record.");
+                }
+                in.compact();
+            }
+            if (format == TelemetryFormat.JSON) putAscii(out, first ? "]\n" : "\n]\n");
+            total += drain(out, sink);
+        } finally {
+            pool.release(in);
+            pool.release(out);
+        }
+        return total;
+    }
+
+    private void encode(long timestamp, int sensorId, int readingMilli, ByteBuffer out) {
+        if (format == TelemetryFormat.CSV) {
+            putLong(out, timestamp);
+            out.put((byte) ',');
+            putLong(out, sensorId);
+            out.put((byte) ',');
+            putMilli(out, readingMilli);
+            out.put((byte) '\n');
+        } else {
+            if (!first) putAscii(out, ",\n");
+            putAscii(out, "{\"timestamp\":");
+            putLong(out, timestamp);
+            putAscii(out, ",\"sensor\":");
+            putLong(out, sensorId);
+            putAscii(out, ",\"reading\":");
+            putMilli(out, readingMilli);
+            out.put((byte) '}');
+        }
+        first = false;
+    }
+
+    private static long drain(ByteBuffer out, WritableByteChannel sink) throws IOException {
+        out.flip();
+        long written = 0;
+        while (out.hasRemaining()) written += sink.write(out);
+        out.clear();
+        return written;
+    }
+
+    private static void putAscii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) out.put((byte) text.charAt(i));
+    }
+
+    // Fixed-point value with three decimals, e.g. -12345 -> "-12.345".
+    private void putMilli(ByteBuffer out, int milli) {
+        if (milli < 0) {
+            out.put((byte) '-');
+            milli = -milli;
+        }
+        putLong(out, milli / 1000);
+        out.put((byte) '.');
+        int frac = milli % 1000;
+        out.put((byte) ('0' + frac / 100)).put((byte) ('0' + frac / 10 % 10)).put((byte) ('0' + frac % 10));
+    }
+
+    private void putLong(ByteBuffer out, long value) {
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        while (n > 0) out.put(digits[--n]);
+    }
+}
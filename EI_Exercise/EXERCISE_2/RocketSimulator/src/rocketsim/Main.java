@@ -1,5 +1,7 @@
 package rocketsim;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -8,13 +10,19 @@ import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.core.RocketLaunchSimulator.MissionStatusObserver;
 import rocketsim.core.SimulationThread;
 import rocketsim.exception.MissionControlException;
-import rocketsim.util.Logger;
+import rocketsim.telemetry.TelemetryBroadcaster;
+import rocketsim.telemetry.TrajectoryExporter;
 
 public class Main implements MissionStatusObserver {
+    private static final Pattern FAST_FORWARD = Pattern.compile("fast_forward\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RUN_UNTIL = Pattern.compile("run_until\\s+(.+)", Pattern.CASE_INSENSITIVE);
+
     private RocketLaunchSimulator simulator;
     private final Scanner scanner;
     private volatile boolean missionEnded = false;
     private SimulationThread simulationThread;
+    private TelemetryBroadcaster broadcaster;
+    private TrajectoryExporter exporter;
 
     public Main() {
         this.simulator = new RocketLaunchSimulator();
@@ -22,6 +30,24 @@ public class Main implements MissionStatusObserver {
         this.scanner = new Scanner(System.in);
     }
 
+    /**
+     * Streams every tick to local TCP subscribers (see TelemetryBroadcaster).
+     */
+    public void enableTelemetryBroadcast(int port) throws IOException {
+        broadcaster = new TelemetryBroadcaster(simulator, port);
+        simulator.addObserver(broadcaster);
+        System.out.println("Telemetry stream on localhost:" + broadcaster.getPort());
+    }
+
+    /**
+     * Writes each mission's downsampled altitude, speed and fuel to 'file' (see TrajectoryExporter).
+     */
+    public void enableTrajectoryExport(Path file, int points) throws IOException {
+        exporter = new TrajectoryExporter(points, file);
+        simulator.addTickListener(exporter);
+        System.out.println("Exporting trajectories (" + points + " points per series) to " + file);
+    }
+
     public void setSimulationThread(SimulationThread thread) {
         this.simulationThread = thread;
     }
@@ -41,8 +67,8 @@ public class Main implements MissionStatusObserver {
     }
 
     private Command parseCommand(String input) throws MissionControlException {
-        Pattern ffPattern = Pattern.compile("fast_forward\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
-        Matcher ffMatcher = ffPattern.matcher(input);
+        Matcher ffMatcher = FAST_FORWARD.matcher(input);
+        Matcher untilMatcher = RUN_UNTIL.matcher(input);
 
         if (input.equalsIgnoreCase("start_checks")) {
             return new StartChecksCommand();
@@ -51,12 +77,14 @@ public class Main implements MissionStatusObserver {
         } else if (ffMatcher.matches()) {
             int seconds = Integer.parseInt(ffMatcher.group(1));
             return new FastForwardCommand(seconds);
+        } else if (untilMatcher.matches()) {
+            return new RunUntilCommand(untilMatcher.group(1));
         } else if (input.equalsIgnoreCase("reset")) {
             return new ResetCommand(this);
         } else if (input.equalsIgnoreCase("exit")) {
             return null;
         } else {
-            throw new MissionControlException("Invalid command. Available: start_checks, launch, fast_forward X, reset, exit.");
+            throw new MissionControlException("Invalid command. Available: start_checks, launch, fast_forward X, run_until <event|condition>, reset, exit.");
         }
     }
 
@@ -64,9 +92,13 @@ public class Main implements MissionStatusObserver {
         missionEnded = false;
         if (simulationThread != null && simulationThread.isAlive()) {
             simulationThread.stopSimulation();
+            try {
+                simulationThread.join(); // The simulator is reused, so the old thread must be done with it.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
-        simulator = new RocketLaunchSimulator();
-        simulator.addObserver(this);
+        simulator.reset(); // Keeps this observer; the profile is not reloaded.
         simulationThread = null;
         System.out.println("Simulation reset. You can start a new mission now.");
     }
@@ -76,6 +108,7 @@ public class Main implements MissionStatusObserver {
         System.out.println("Type 'start_checks' to begin pre-launch sequence.");
         System.out.println("Type 'launch' to lift off after checks.");
         System.out.println("Type 'fast_forward X' to skip time (e.g., 'fast_forward 10').");
+        System.out.println("Type 'run_until X' to run to an event or condition (stage_sep, orbit, altitude>120, fuel<5).");
         System.out.println("Type 'reset' to start a new mission after ending.");
         System.out.println("Type 'exit' to quit.");
 
@@ -96,7 +129,7 @@ public class Main implements MissionStatusObserver {
             }
 
             if ("exit".equalsIgnoreCase(input)) {
-                Logger.getInstance().log("COMMAND", "exit received. Simulation terminated by user.");
+                simulator.getLogger().log("COMMAND", "exit received. Simulation terminated by user.");
                 break;
             }
 
@@ -111,7 +144,7 @@ public class Main implements MissionStatusObserver {
             try {
                 Command command = parseCommand(input);
                 if (command != null) {
-                    command.execute(simulator);
+                    Command.run(command, simulator);
                 }
                 if ("reset".equalsIgnoreCase(input)) {
                     resetSimulation();
@@ -129,9 +162,40 @@ public class Main implements MissionStatusObserver {
 
         System.out.println("\nSimulation terminated.");
         scanner.close();
+        if (broadcaster != null) {
+            System.out.println("Telemetry: " + broadcaster.getMetrics());
+            try {
+                broadcaster.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close telemetry stream: " + e.getMessage());
+            }
+        }
+        if (exporter != null) {
+            try {
+                exporter.close();
+                System.out.println("Trajectories exported: " + exporter.getMissionsWritten() + " mission(s).");
+            } catch (IOException e) {
+                System.err.println("Failed to write trajectory export: " + e.getMessage());
+            }
+        }
     }
 
-    public static void main(String[] args) {
-        new Main().run();
+    /**
+     * Usage: java rocketsim.Main [--telemetry-port port] [--export file.csv|file.bin] [--export-points n]
+     */
+    public static void main(String[] args) throws IOException {
+        Main main = new Main();
+        Path export = null;
+        int exportPoints = TrajectoryExporter.DEFAULT_POINTS;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--telemetry-port": main.enableTelemetryBroadcast(Integer.parseInt(args[++i])); break;
+                case "--export": export = Path.of(args[++i]); break;
+                case "--export-points": exportPoints = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (export != null) main.enableTrajectoryExport(export, exportPoints);
+        main.run();
     }
 }
@@ -0,0 +1,95 @@
+package rocketsim.analysis;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Counts occurrences of byte sequences read straight from a buffer, so a scan only creates
+ * a String per distinct key (when the counts are exported), never per line.
+ * Open addressing over key bytes copied into one arena. Not thread-safe: one per chunk.
+ */
+final class ByteKeyCounter {
+    private static final int MAX_KEY_BYTES = 256; // Longer keys are truncated.
+
+    private byte[] arena = new byte[1024];
+    private int arenaUsed;
+    private int[] offsets = new int[64];   // Key start in the arena; -1 for an empty slot.
+    private int[] lengths = new int[64];
+    private int[] hashes = new int[64];
+    private long[] counts = new long[64];
+    private int size;
+
+    ByteKeyCounter() {
+        Arrays.fill(offsets, -1);
+    }
+
+    /** Adds one to the count of the bytes buffer[from, to). */
+    void increment(ByteBuffer buffer, int from, int to) {
+        int length = Math.min(to - from, MAX_KEY_BYTES);
+        int hash = length;
+        int i = 0;
+        for (; i + 8 <= length; i += 8) hash = hash * 0x9E3779B1 + Long.hashCode(buffer.getLong(from + i));
+        for (; i < length; i++) hash = hash * 31 + buffer.get(from + i);
+        hash ^= hash >>> 16;
+        int mask = offsets.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int offset = offsets[slot];
+            if (offset < 0) {
+                insert(slot, hash, buffer, from, length);
+                return;
+            }
+            if (hashes[slot] == hash && lengths[slot] == length && equal(offset, buffer, from, length)) {
+                counts[slot]++;
+                return;
+            }
+        }
+    }
+
+    private boolean equal(int offset, ByteBuffer buffer, int from, int length) {
+        for (int i = 0; i < length; i++) {
+            if (arena[offset + i] != buffer.get(from + i)) return false;
+        }
+        return true;
+    }
+
+    private void insert(int slot, int hash, ByteBuffer buffer, int from, int length) {
+        if (arenaUsed + length > arena.length) arena = Arrays.copyOf(arena, Math.max(2 * arena.length, arenaUsed + length));
+        for (int i = 0; i < length; i++) arena[arenaUsed + i] = buffer.get(from + i);
+        offsets[slot] = arenaUsed;
+        lengths[slot] = length;
+        hashes[slot] = hash;
+        counts[slot] = 1;
+        arenaUsed += length;
+        if (++size * 2 > offsets.length) grow();
+    }
+
+    private void grow() {
+        int[] oldOffsets = offsets, oldLengths = lengths, oldHashes = hashes;
+        long[] oldCounts = counts;
+        int capacity = 2 * oldOffsets.length;
+        offsets = new int[capacity];
+        Arrays.fill(offsets, -1);
+        lengths = new int[capacity];
+        hashes = new int[capacity];
+        counts = new long[capacity];
+        for (int i = 0; i < oldOffsets.length; i++) {
+            if (oldOffsets[i] < 0) continue;
+            int slot = oldHashes[i] & (capacity - 1);
+            while (offsets[slot] >= 0) slot = (slot + 1) & (capacity - 1);
+            offsets[slot] = oldOffsets[i];
+            lengths[slot] = oldLengths[i];
+            hashes[slot] = oldHashes[i];
+            counts[slot] = oldCounts[i];
+        }
+    }
+
+    /** Adds every key (decoded as UTF-8) and its count into 'target'. */
+    void addTo(Map<String, Long> target) {
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] < 0) continue;
+            target.merge(new String(arena, offsets[i], lengths[i], StandardCharsets.UTF_8), counts[i], Long::sum);
+        }
+    }
+}
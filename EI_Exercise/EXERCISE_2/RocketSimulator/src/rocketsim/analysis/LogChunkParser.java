@@ -0,0 +1,201 @@
+package rocketsim.analysis;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses one chunk of whole log lines in place, straight from the (mapped) buffer.
+ * Accepts both formats the Logger writes:
+ *   [yyyy-MM-dd HH:mm:ss.SSS] [EVENT] message              (global mission_log.txt)
+ *   [yyyy-MM-dd HH:mm:ss.SSS] [missionId] [EVENT] message  (mission-scoped logs)
+ * A second bracketed token is taken as the event only if it is an event name (A-Z, 0-9, _),
+ * so a global line whose message starts with such a token is misread as mission-scoped.
+ * Only event names, failure reasons and command names are ever copied out of the buffer.
+ * A COMMAND line counts as an issued command only if it reads "<command> [args] received."
+ * (possibly followed by more text); other COMMAND lines, e.g. "Initiating Pre-Launch
+ * Checks...", are progress messages and are only counted as events.
+ */
+final class LogChunkParser {
+    private static final byte[] FAILURE = ascii("FAILURE");
+    private static final byte[] COMMAND = ascii("COMMAND");
+    private static final byte[] FAILED_PREFIX = ascii("MISSION FAILED: ");
+    private static final byte[] RECEIVED = ascii(" received.");
+    private static final int TIMESTAMP_END = 24; // Offset of the ']' closing the timestamp.
+
+    private final ByteBuffer buffer;
+    private final int windowSeconds;
+    private final LogSummary summary;
+    private final ByteKeyCounter events = new ByteKeyCounter();
+    private final ByteKeyCounter reasons = new ByteKeyCounter();
+    private final ByteKeyCounter commands = new ByteKeyCounter();
+    // Commands of the current window; logs are in time order, so the map is touched once per window.
+    private long window = Long.MIN_VALUE;
+    private long windowCommands;
+
+    private LogChunkParser(ByteBuffer buffer, int windowSeconds) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        this.windowSeconds = windowSeconds;
+        this.summary = new LogSummary(windowSeconds);
+    }
+
+    /**
+     * Summarizes buffer[0, limit), which must start at a line start and end at a line end.
+     */
+    static LogSummary parse(ByteBuffer buffer, int windowSeconds) {
+        return new LogChunkParser(buffer, windowSeconds).run();
+    }
+
+    private LogSummary run() {
+        int end = buffer.limit();
+        int pos = 0;
+        while (pos < end) {
+            int newline = nextNewline(pos, end);
+            int lineEnd = newline < 0 ? end : newline;
+            int contentEnd = lineEnd > pos && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > pos) line(pos, contentEnd);
+            pos = lineEnd + 1;
+        }
+        flushWindow();
+        summary.bytes = end;
+        events.addTo(summary.events);
+        reasons.addTo(summary.failureReasons);
+        commands.addTo(summary.commands);
+        return summary;
+    }
+
+    // Eight bytes at a time: the lowest byte equal to '\n' in each little-endian word.
+    private int nextNewline(int from, int end) {
+        int i = from;
+        for (; i + 8 <= end; i += 8) {
+            long word = buffer.getLong(i) ^ 0x0A0A0A0A0A0A0A0AL;
+            long found = (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+            if (found != 0) return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        for (; i < end; i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    private void line(int start, int end) {
+        summary.lines++;
+        if (end - start < TIMESTAMP_END + 5 || buffer.get(start) != '[' || buffer.get(start + TIMESTAMP_END) != ']'
+                || buffer.get(start + TIMESTAMP_END + 1) != ' ' || buffer.get(start + TIMESTAMP_END + 2) != '[') {
+            summary.malformed++;
+            return;
+        }
+        long second = epochSecond(start + 1);
+        int eventFrom = start + TIMESTAMP_END + 3;
+        int eventTo = indexOf(']', eventFrom, end);
+        if (second == Long.MIN_VALUE || eventTo < 0) {
+            summary.malformed++;
+            return;
+        }
+        int message = eventTo + 2;
+        if (eventTo + 2 < end && buffer.get(eventTo + 1) == ' ' && buffer.get(eventTo + 2) == '[') {
+            int close = indexOf(']', eventTo + 3, end);
+            if (close > 0 && isEventName(eventTo + 3, close)) {
+                eventFrom = eventTo + 3;
+                eventTo = close;
+                message = close + 2;
+                summary.missionLines++;
+            }
+        }
+        message = Math.min(message, end);
+        summary.firstSecond = Math.min(summary.firstSecond, second);
+        summary.lastSecond = Math.max(summary.lastSecond, second);
+
+        events.increment(buffer, eventFrom, eventTo);
+        if (equals(eventFrom, eventTo, FAILURE)) {
+            int from = startsWith(message, end, FAILED_PREFIX) ? message + FAILED_PREFIX.length : message;
+            reasons.increment(buffer, from, end);
+        } else if (equals(eventFrom, eventTo, COMMAND) && indexOf(RECEIVED, message, end) >= 0) {
+            int space = indexOf(' ', message, end);
+            commands.increment(buffer, message, space < 0 ? end : space);
+            countCommand(second);
+        }
+    }
+
+    private void countCommand(long second) {
+        long start = Math.floorDiv(second, windowSeconds) * windowSeconds;
+        if (start != window) {
+            flushWindow();
+            window = start;
+        }
+        windowCommands++;
+    }
+
+    private void flushWindow() {
+        if (windowCommands > 0) summary.commandWindows.merge(window, windowCommands, Long::sum);
+        windowCommands = 0;
+    }
+
+    // "yyyy-MM-dd HH:mm:ss" at 'at' as seconds since 1970-01-01T00:00 (no zone), or Long.MIN_VALUE.
+    private long epochSecond(int at) {
+        int year = digits(at, 4), month = digits(at + 5, 2), day = digits(at + 8, 2);
+        int hour = digits(at + 11, 2), minute = digits(at + 14, 2), second = digits(at + 17, 2);
+        if ((year | month | day | hour | minute | second) < 0 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour > 23 || minute > 59 || second > 60) {
+            return Long.MIN_VALUE;
+        }
+        // Days from civil date (proleptic Gregorian), after H. Hinnant.
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long days = era * 146097 + dayOfEra - 719468;
+        return days * 86400 + hour * 3600L + minute * 60L + second;
+    }
+
+    // Decimal value of 'count' digits at 'at', or -1 if any is not a digit.
+    private int digits(int at, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            int d = buffer.get(at + i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private int indexOf(char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == c) return i;
+        }
+        return -1;
+    }
+
+    private int indexOf(byte[] text, int from, int end) {
+        for (int i = from; i <= end - text.length; i++) {
+            if (startsWith(i, end, text)) return i;
+        }
+        return -1;
+    }
+
+    private boolean isEventName(int from, int to) {
+        if (from == to) return false;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (!(b >= 'A' && b <= 'Z' || b >= '0' && b <= '9' || b == '_')) return false;
+        }
+        return true;
+    }
+
+    private boolean equals(int from, int to, byte[] text) {
+        return to - from == text.length && startsWith(from, to, text);
+    }
+
+    private boolean startsWith(int from, int end, byte[] text) {
+        if (end - from < text.length) return false;
+        for (int i = 0; i < text.length; i++) {
+            if (buffer.get(from + i) != text[i]) return false;
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
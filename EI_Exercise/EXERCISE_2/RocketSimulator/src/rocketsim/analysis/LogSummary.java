@@ -0,0 +1,120 @@
+package rocketsim.analysis;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Aggregates of one or more scanned mission logs: event counts by type, failure reasons,
+ * commands by name and commands per time window. Each chunk of a scan builds its own
+ * summary; merge() combines them. Not thread-safe.
+ */
+public final class LogSummary {
+    private final int windowSeconds;
+    long bytes;
+    long lines;
+    long missionLines;   // Lines in the mission-scoped format, [ts] [mission] [EVENT] msg.
+    long malformed;      // Non-empty lines matching neither format.
+    long firstSecond = Long.MAX_VALUE;
+    long lastSecond = Long.MIN_VALUE;
+    final Map<String, Long> events = new HashMap<>();
+    final Map<String, Long> failureReasons = new HashMap<>();
+    final Map<String, Long> commands = new HashMap<>();
+    final TreeMap<Long, Long> commandWindows = new TreeMap<>(); // Window start (epoch second) -> commands.
+    private long scanNanos;
+
+    LogSummary(int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public LogSummary merge(LogSummary other) {
+        if (other.windowSeconds != windowSeconds) throw new IllegalArgumentException("Window sizes differ.");
+        bytes += other.bytes;
+        lines += other.lines;
+        missionLines += other.missionLines;
+        malformed += other.malformed;
+        firstSecond = Math.min(firstSecond, other.firstSecond);
+        lastSecond = Math.max(lastSecond, other.lastSecond);
+        other.events.forEach((k, v) -> events.merge(k, v, Long::sum));
+        other.failureReasons.forEach((k, v) -> failureReasons.merge(k, v, Long::sum));
+        other.commands.forEach((k, v) -> commands.merge(k, v, Long::sum));
+        other.commandWindows.forEach((k, v) -> commandWindows.merge(k, v, Long::sum));
+        return this;
+    }
+
+    public long getBytes() { return bytes; }
+    public long getLines() { return lines; }
+    public long getMissionLines() { return missionLines; }
+    public long getMalformedLines() { return malformed; }
+    public int getWindowSeconds() { return windowSeconds; }
+    public Map<String, Long> getEventCounts() { return Collections.unmodifiableMap(events); }
+    // Reasons after "MISSION FAILED: " on FAILURE lines.
+    public Map<String, Long> getFailureReasons() { return Collections.unmodifiableMap(failureReasons); }
+    // First word of each COMMAND line, e.g. launch, fast_forward.
+    public Map<String, Long> getCommandCounts() { return Collections.unmodifiableMap(commands); }
+
+    /** COMMAND lines per window, keyed by the window's start as written in the log. */
+    public NavigableMap<LocalDateTime, Long> getCommandsPerWindow() {
+        TreeMap<LocalDateTime, Long> result = new TreeMap<>();
+        commandWindows.forEach((second, count) -> result.put(toTime(second), count));
+        return result;
+    }
+
+    public double getScanSeconds() { return scanNanos / 1e9; }
+
+    void setScanNanos(long scanNanos) { this.scanNanos = scanNanos; }
+
+    // Timestamps are read as written, with no zone, so they are held as if they were UTC.
+    private static LocalDateTime toTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Human-readable summary; the longest tables are cut to their 'top' largest entries.
+     */
+    public String report(int top) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%,d lines (%,d mission-scoped, %,d malformed), %.1f MB", lines, missionLines,
+                malformed, bytes / 1e6));
+        if (scanNanos > 0) {
+            sb.append(String.format(" in %.3f s: %.2f GB/s, %,.0f lines/s", getScanSeconds(),
+                    bytes / 1e9 / getScanSeconds(), lines / getScanSeconds()));
+        }
+        if (firstSecond <= lastSecond) {
+            sb.append(String.format("%nSpan %s .. %s", toTime(firstSecond), toTime(lastSecond)));
+        }
+        table(sb, "Events by type", events, top);
+        table(sb, "Failure reasons", failureReasons, top);
+        table(sb, "Commands", commands, top);
+        sb.append(String.format("%n--- Commands per %d s window (%d windows with commands) ---", windowSeconds,
+                commandWindows.size()));
+        int shown = 0;
+        for (Map.Entry<Long, Long> e : commandWindows.entrySet()) {
+            if (shown++ == top) {
+                sb.append(String.format("%n  ... %d more", commandWindows.size() - top));
+                break;
+            }
+            sb.append(String.format("%n  %-20s %,10d", toTime(e.getKey()), e.getValue()));
+        }
+        return sb.toString();
+    }
+
+    private static void table(StringBuilder sb, String title, Map<String, Long> counts, int top) {
+        sb.append(String.format("%n--- %s ---", title));
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i == top) {
+                sb.append(String.format("%n  ... %d more", sorted.size() - top));
+                break;
+            }
+            sb.append(String.format("%n  %,12d  %s", sorted.get(i).getValue(), sorted.get(i).getKey()));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package rocketsim.analysis;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scans mission logs in parallel: each file is memory-mapped in chunks cut at line
+ * boundaries, every chunk is parsed in place on its own thread into a LogSummary, and
+ * the chunk summaries are merged. Chunks are small enough to spread over all cores and
+ * keep any single mapping far below the 2 GB limit of a MappedByteBuffer.
+ *
+ * Usage: java rocketsim.analysis.MissionLogAnalyzer [--threads n] [--chunk-mb n] [--window seconds]
+ *                                                   [--top n] [file ...]   (default mission_log.txt)
+ */
+public final class MissionLogAnalyzer {
+    public static final long DEFAULT_CHUNK_BYTES = 32L << 20;
+    public static final int DEFAULT_WINDOW_SECONDS = 3600;
+
+    private final int threads;
+    private final long chunkBytes;
+    private final int windowSeconds;
+
+    public MissionLogAnalyzer() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_BYTES, DEFAULT_WINDOW_SECONDS);
+    }
+
+    /**
+     * @param windowSeconds Width of the windows commands are counted in.
+     */
+    public MissionLogAnalyzer(int threads, long chunkBytes, int windowSeconds) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        if (chunkBytes < 1 || chunkBytes > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Chunk size must be in [1, 1 GB].");
+        }
+        if (windowSeconds < 1) throw new IllegalArgumentException("Window must be at least one second.");
+        this.threads = threads;
+        this.chunkBytes = chunkBytes;
+        this.windowSeconds = windowSeconds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        long chunkBytes = DEFAULT_CHUNK_BYTES;
+        int window = DEFAULT_WINDOW_SECONDS;
+        int top = 20;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--chunk-mb": chunkBytes = Long.parseLong(args[++i]) << 20; break;
+                case "--window": window = Integer.parseInt(args[++i]); break;
+                case "--top": top = Integer.parseInt(args[++i]); break;
+                default:
+                    if (args[i].startsWith("--")) throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    files.add(Path.of(args[i]));
+            }
+        }
+        if (files.isEmpty()) files.add(Path.of("mission_log.txt"));
+
+        LogSummary summary = new MissionLogAnalyzer(threads, chunkBytes, window).analyze(files);
+        System.out.printf("=== %d file(s), %d thread(s) ===%n", files.size(), threads);
+        System.out.println(summary.report(top));
+    }
+
+    /**
+     * Scans 'files' and merges everything into one summary, timed from open to merge.
+     */
+    public LogSummary analyze(List<Path> files) throws IOException {
+        long start = System.nanoTime();
+        List<FileChannel> channels = new ArrayList<>();
+        ExecutorService pool = null;
+        try {
+            List<Callable<LogSummary>> work = new ArrayList<>();
+            for (Path file : files) {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                channels.add(channel);
+                long size = channel.size();
+                for (long from = 0; from < size; ) {
+                    long to = size - from <= chunkBytes ? size : nextLineStart(channel, from + chunkBytes, size);
+                    if (to - from > Integer.MAX_VALUE) throw new IOException(file + ": line longer than 2 GB at " + from);
+                    long chunkFrom = from;
+                    work.add(() -> LogChunkParser.parse(channel.map(FileChannel.MapMode.READ_ONLY, chunkFrom, to - chunkFrom),
+                            windowSeconds));
+                    from = to;
+                }
+            }
+
+            LogSummary total = new LogSummary(windowSeconds);
+            pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, work.size())), r -> {
+                Thread t = new Thread(r, "log-scan");
+                t.setDaemon(true);
+                return t;
+            });
+            for (Future<LogSummary> part : pool.invokeAll(work)) {
+                total.merge(part.get());
+            }
+            total.setScanNanos(System.nanoTime() - start);
+            return total;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IllegalStateException("Log scan failed: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Log scan interrupted.", e);
+        } finally {
+            if (pool != null) pool.shutdownNow();
+            for (FileChannel channel : channels) channel.close();
+        }
+    }
+
+    // Offset just past the first '\n' at or after pos - 1, i.e. the first line starting at or after pos.
+    static long nextLineStart(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(8192);
+        for (long at = pos - 1; at < size; ) {
+            block.clear();
+            int n = channel.read(block, at);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++) {
+                if (block.get(i) == '\n') return at + i + 1;
+            }
+            at += n;
+        }
+        return size;
+    }
+}
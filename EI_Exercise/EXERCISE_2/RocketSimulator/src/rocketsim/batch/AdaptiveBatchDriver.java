@@ -0,0 +1,261 @@
+package rocketsim.batch;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * Runs missions in parallel chunks of consecutive seeds until every target metric's 95%
+ * confidence interval is narrow enough, instead of a mission count fixed up front.
+ *
+ * Stopping:
+ *  - converged, max missions reached, or requestStop(): no new chunks are started and the
+ *    chunks already running are drained into the result;
+ *  - time budget expired: running chunks are cancelled (they stop within one mission) and
+ *    their partial work is discarded.
+ * Convergence is only checked after minMissions, which keeps the normal-approximation CIs
+ * honest and limits the optimism of stopping at the first lucky chunk.
+ *
+ * Usage: java rocketsim.batch.AdaptiveBatchDriver [--target metric=relHalfWidth,...]
+ *            [--chunk n] [--min n] [--max n] [--budget-s s] [--threads n] [--bias MODE=p,...]
+ * Metrics: success, fuel_leak, time_to_orbit, peak_altitude, fuel_at_insertion.
+ * Default target: success=0.01,peak_altitude=0.01.
+ */
+public class AdaptiveBatchDriver {
+
+    public enum Metric {
+        SUCCESS, FUEL_LEAK, TIME_TO_ORBIT, PEAK_ALTITUDE, FUEL_AT_INSERTION;
+
+        public Estimate of(MissionStats stats) {
+            switch (this) {
+                case SUCCESS: return stats.successProbability();
+                case FUEL_LEAK: return stats.fuelLeakProbability();
+                case TIME_TO_ORBIT: return stats.getTimeToOrbitS().meanEstimate();
+                case PEAK_ALTITUDE: return stats.getPeakAltitudeKm().meanEstimate();
+                default: return stats.getFuelAtInsertionPct().meanEstimate();
+            }
+        }
+
+        public static Metric parse(String name) {
+            return valueOf(name.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    public enum StopReason { CONVERGED, TIME_BUDGET, MAX_MISSIONS, STOP_REQUESTED }
+
+    public static final class Result {
+        private final MissionStats stats;
+        private final StopReason reason;
+        private final double seconds;
+        private final int chunksMerged;
+        private final int chunksCancelled;
+
+        Result(MissionStats stats, StopReason reason, double seconds, int chunksMerged, int chunksCancelled) {
+            this.stats = stats;
+            this.reason = reason;
+            this.seconds = seconds;
+            this.chunksMerged = chunksMerged;
+            this.chunksCancelled = chunksCancelled;
+        }
+
+        public MissionStats getStats() { return stats; }
+        public StopReason getReason() { return reason; }
+        public double getSeconds() { return seconds; }
+        public int getChunksMerged() { return chunksMerged; }
+        public int getChunksCancelled() { return chunksCancelled; }
+    }
+
+    private final Map<Metric, Double> targets = new EnumMap<>(Metric.class);
+    private long seedStart;
+    private long chunkSize = 1_000;
+    private long minMissions = 5_000;
+    private long maxMissions = Long.MAX_VALUE;
+    private Duration timeBudget = Duration.ofMinutes(5);
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private FailureModel failureModel = FailureModel.nominal();
+
+    private volatile boolean stopRequested;
+
+    /**
+     * Requires metric's 95% CI half-width to be at most 'relativeHalfWidth' of its estimate.
+     */
+    public AdaptiveBatchDriver setTarget(Metric metric, double relativeHalfWidth) {
+        if (!(relativeHalfWidth > 0)) throw new IllegalArgumentException("Target precision must be positive.");
+        targets.put(metric, relativeHalfWidth);
+        return this;
+    }
+
+    public AdaptiveBatchDriver setSeedStart(long seedStart) { this.seedStart = seedStart; return this; }
+    public AdaptiveBatchDriver setChunkSize(long chunkSize) { this.chunkSize = chunkSize; return this; }
+    public AdaptiveBatchDriver setMinMissions(long minMissions) { this.minMissions = minMissions; return this; }
+    public AdaptiveBatchDriver setMaxMissions(long maxMissions) { this.maxMissions = maxMissions; return this; }
+    public AdaptiveBatchDriver setTimeBudget(Duration timeBudget) { this.timeBudget = timeBudget; return this; }
+    public AdaptiveBatchDriver setThreads(int threads) { this.threads = threads; return this; }
+    public AdaptiveBatchDriver setFailureModel(FailureModel model) { this.failureModel = model; return this; }
+
+    /**
+     * Asks a running driver to stop starting chunks and drain; safe from any thread.
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public Result run() throws InterruptedException {
+        if (targets.isEmpty()) throw new IllegalStateException("No target metric set.");
+        if (chunkSize <= 0 || threads <= 0) throw new IllegalStateException("Chunk size and threads must be positive.");
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "adaptive-batch");
+            t.setDaemon(true);
+            return t;
+        });
+        CompletionService<MissionStats> completion = new ExecutorCompletionService<>(pool);
+        SimulatorPool simulators = new SimulatorPool(MissionRunner.leoSpec(), Logger.silent("adaptive"), threads);
+        Set<Future<MissionStats>> inFlight = new HashSet<>();
+        MissionStats total = new MissionStats();
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        long nextSeed = seedStart;
+        long seedEnd = maxMissions == Long.MAX_VALUE ? Long.MAX_VALUE : seedStart + maxMissions;
+        int merged = 0;
+        int cancelled = 0;
+        StopReason reason;
+
+        try {
+            while (true) {
+                // Two chunks per thread keep every core busy while results are being merged.
+                while (inFlight.size() < 2 * threads && nextSeed < seedEnd) {
+                    long from = nextSeed;
+                    long to = Math.min(seedEnd, from + chunkSize);
+                    inFlight.add(completion.submit(() ->
+                            new MissionRunner(simulators, failureModel).runRange(from, to, new MissionStats())));
+                    nextSeed = to;
+                }
+                if (inFlight.isEmpty()) {
+                    reason = StopReason.MAX_MISSIONS;
+                    break;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    reason = StopReason.TIME_BUDGET;
+                    break;
+                }
+                Future<MissionStats> done = completion.poll(Math.min(remaining, 100_000_000L), TimeUnit.NANOSECONDS);
+                if (done != null) {
+                    inFlight.remove(done);
+                    total.merge(get(done));
+                    merged++;
+                    if (total.getMissions() >= minMissions && converged(total)) {
+                        reason = StopReason.CONVERGED;
+                        break;
+                    }
+                }
+                if (stopRequested) {
+                    reason = StopReason.STOP_REQUESTED;
+                    break;
+                }
+            }
+
+            if (reason == StopReason.TIME_BUDGET) {
+                // A chunk that cannot be cancelled has already finished (polled or not): merge it.
+                for (Future<MissionStats> f : inFlight) {
+                    if (f.cancel(true)) {
+                        cancelled++;
+                    } else {
+                        total.merge(get(f));
+                        merged++;
+                    }
+                }
+            } else {
+                for (int i = inFlight.size(); i > 0; i--) {
+                    total.merge(get(completion.take()));
+                    merged++;
+                }
+            }
+            inFlight.clear();
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return new Result(total, reason, (System.nanoTime() - start) / 1e9, merged, cancelled);
+    }
+
+    public boolean converged(MissionStats stats) {
+        for (Map.Entry<Metric, Double> target : targets.entrySet()) {
+            if (target.getKey().of(stats).relativeHalfWidth(Estimate.Z_95) > target.getValue()) return false;
+        }
+        return true;
+    }
+
+    private static MissionStats get(Future<MissionStats> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Mission chunk failed: " + e.getCause(), e.getCause());
+        } catch (CancellationException e) {
+            return new MissionStats(); // Not reached: only chunks of a timed-out run are cancelled.
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        AdaptiveBatchDriver driver = new AdaptiveBatchDriver();
+        String target = "success=0.01,peak_altitude=0.01";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--target": target = args[++i]; break;
+                case "--chunk": driver.setChunkSize(Long.parseLong(args[++i])); break;
+                case "--min": driver.setMinMissions(Long.parseLong(args[++i])); break;
+                case "--max": driver.setMaxMissions(Long.parseLong(args[++i])); break;
+                case "--budget-s": driver.setTimeBudget(Duration.ofMillis((long) (Double.parseDouble(args[++i]) * 1000))); break;
+                case "--threads": driver.setThreads(Integer.parseInt(args[++i])); break;
+                case "--bias": driver.setFailureModel(FailureModel.parse(args[++i])); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        for (String part : target.split(",")) {
+            String[] kv = part.split("=");
+            if (kv.length != 2) throw new IllegalArgumentException("Expected metric=relativeHalfWidth but got: " + part);
+            driver.setTarget(Metric.parse(kv[0]), Double.parseDouble(kv[1]));
+        }
+
+        // Ctrl-C drains the running chunks; the JVM waits for the report before exiting.
+        CountDownLatch reported = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            driver.requestStop();
+            try {
+                reported.await(15, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            report(driver, driver.run());
+        } finally {
+            reported.countDown();
+        }
+    }
+
+    private static void report(AdaptiveBatchDriver driver, Result result) {
+        System.out.printf("Stopped: %s after %,d missions in %.2f s (%,.0f missions/s); %d chunks merged, %d cancelled.%n",
+                result.getReason(), result.getStats().getMissions(), result.getSeconds(),
+                result.getStats().getMissions() / result.getSeconds(), result.getChunksMerged(), result.getChunksCancelled());
+        for (Metric metric : driver.targets.keySet()) {
+            Estimate estimate = metric.of(result.getStats());
+            System.out.printf("  %-18s %s  relative half-width %.4f (target %.4f)%n", metric, estimate,
+                    estimate.relativeHalfWidth(Estimate.Z_95), driver.targets.get(metric));
+        }
+        System.out.print(result.getStats().formatReport());
+    }
+}
@@ -0,0 +1,324 @@
+package rocketsim.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coordinator for distributed batch runs. The seed range is cut into fixed-size tasks
+ * that connected BatchWorker processes take one at a time; their partial MissionStats
+ * are merged into the final result.
+ *
+ * Reassignment:
+ *  - a worker whose connection drops has its task put back at the head of the queue;
+ *  - a task not returned within 'slowAfterMillis' is queued again for another worker.
+ *    Whichever copy finishes first is merged; the late duplicate is discarded.
+ * Seeds are fixed per task, so the result does not depend on which worker ran what.
+ * If no worker is connected for 'idleTimeoutMillis' (e.g. every worker died), the run fails.
+ *
+ * Usage: java rocketsim.batch.BatchCoordinator [--missions n] [--task-size n] [--seed s]
+ *                                               [--port p] [--spawn workers] [--slow-after-ms ms]
+ *                                               [--idle-timeout-ms ms] [--chaos]
+ * --spawn starts that many worker JVMs on this machine; with --spawn 0 start them by hand.
+ * --chaos makes the second spawned worker crash and the third one slow.
+ */
+public class BatchCoordinator {
+    private static final class Task {
+        final long id;
+        final long seedStart;
+        final long seedEnd;
+
+        Task(long id, long seedStart, long seedEnd) {
+            this.id = id;
+            this.seedStart = seedStart;
+            this.seedEnd = seedEnd;
+        }
+    }
+
+    // Per-worker share of the run; written by that worker's handler thread only.
+    private static final class WorkerReport {
+        final String name;
+        final int threads;
+        long tasks;
+        long missions;
+        long busyNanos;
+        String failure;
+
+        WorkerReport(String name, int threads) {
+            this.name = name;
+            this.threads = threads;
+        }
+
+        @Override
+        public String toString() {
+            double rate = busyNanos == 0 ? 0 : missions / (busyNanos / 1e9);
+            return String.format("%-12s %3d threads %5d tasks %,12d missions %,12.0f missions/s%s",
+                    name, threads, tasks, missions, rate, failure == null ? "" : "  (lost: " + failure + ")");
+        }
+    }
+
+    private final long slowAfterMillis;
+    private final long idleTimeoutMillis;
+    private final int taskCount;
+    private final LinkedBlockingDeque<Task> pending = new LinkedBlockingDeque<>();
+    private final Set<Long> completed = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch remaining;
+    private final MissionStats total = new MissionStats();
+    private final List<WorkerReport> reports = new CopyOnWriteArrayList<>();
+    private final List<Thread> handlers = new CopyOnWriteArrayList<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong reassigned = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+
+    public BatchCoordinator(long seedStart, long missions, long taskSize, long slowAfterMillis, long idleTimeoutMillis) {
+        if (missions <= 0 || taskSize <= 0) throw new IllegalArgumentException("missions and task size must be positive");
+        if (idleTimeoutMillis <= 0) throw new IllegalArgumentException("idle timeout must be positive");
+        // Used as the socket read timeout: 0 would mean "never slow" and larger values do not fit.
+        if (slowAfterMillis <= 0 || slowAfterMillis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("slow-after must be in [1, " + Integer.MAX_VALUE + "] ms: " + slowAfterMillis);
+        }
+        this.slowAfterMillis = slowAfterMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        long id = 0;
+        for (long from = seedStart; from < seedStart + missions; from += taskSize) {
+            pending.add(new Task(id++, from, Math.min(from + taskSize, seedStart + missions)));
+        }
+        this.taskCount = (int) id;
+        this.remaining = new CountDownLatch(taskCount);
+    }
+
+    /**
+     * Serves workers on 'server' until every task has been merged, then releases them.
+     * @throws IllegalStateException If no worker was connected for the idle timeout; the
+     *                               server is closed and the partial result dropped.
+     */
+    public MissionStats run(ServerSocket server) throws InterruptedException {
+        Thread acceptor = new Thread(() -> accept(server), "batch-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        long idleSince = System.nanoTime();
+        while (!remaining.await(2, TimeUnit.SECONDS)) {
+            int connected = connections.size();
+            System.out.printf("[Coordinator] %d/%d tasks merged, %d workers connected.%n",
+                    taskCount - remaining.getCount(), taskCount, connected);
+            if (connected > 0) {
+                idleSince = System.nanoTime();
+            } else if (System.nanoTime() - idleSince > TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis)) {
+                closeQuietly(server);
+                throw new IllegalStateException(String.format("No worker connected for %d ms; %d/%d tasks merged.",
+                        idleTimeoutMillis, taskCount - remaining.getCount(), taskCount));
+            }
+        }
+
+        closeQuietly(server);
+        // Idle handlers send SHUTDOWN themselves; close whatever is still waiting on a slow worker.
+        for (Thread handler : handlers) handler.join(1000);
+        for (Socket socket : connections) closeQuietly(socket);
+        for (Thread handler : handlers) handler.join();
+        synchronized (total) {
+            return total;
+        }
+    }
+
+    private void accept(ServerSocket server) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.add(socket);
+                Thread handler = new Thread(() -> serve(socket), "batch-worker-" + socket.getPort());
+                handler.setDaemon(true);
+                handlers.add(handler);
+                handler.start();
+            } catch (IOException e) {
+                if (!server.isClosed()) System.err.println("[Coordinator] Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    // One thread per connected worker: hand out tasks until all are merged.
+    private void serve(Socket socket) {
+        WorkerReport report = new WorkerReport(String.valueOf(socket.getRemoteSocketAddress()), 0);
+        Task current = null;
+        try {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (in.readByte() != BatchProtocol.HELLO || in.readInt() != BatchProtocol.MAGIC) {
+                throw new IOException("not a batch worker");
+            }
+            report = new WorkerReport(in.readUTF(), in.readInt());
+            reports.add(report);
+
+            while (remaining.getCount() > 0) {
+                Task task = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (task == null || completed.contains(task.id)) continue;
+
+                current = task;
+                out.writeByte(BatchProtocol.ASSIGN);
+                out.writeLong(task.id);
+                out.writeLong(task.seedStart);
+                out.writeLong(task.seedEnd);
+                out.flush();
+
+                if (!awaitResult(socket, in, task)) return;
+                long taskId = in.readLong();
+                long busyNanos = in.readLong();
+                MissionStats partial = MissionStats.readFrom(in);
+                current = null;
+                report.busyNanos += busyNanos;
+                if (completed.add(taskId)) {
+                    synchronized (total) {
+                        total.merge(partial);
+                    }
+                    report.tasks++;
+                    report.missions += partial.getMissions();
+                    remaining.countDown();
+                } else {
+                    duplicates.incrementAndGet();
+                }
+            }
+            out.writeByte(BatchProtocol.SHUTDOWN);
+            out.flush();
+        } catch (IOException e) {
+            report.failure = e.getMessage();
+            if (current != null && !completed.contains(current.id)) {
+                pending.addFirst(current);
+                reassigned.incrementAndGet();
+                System.out.printf("[Coordinator] %s dropped; task %d reassigned.%n", report.name, current.id);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Waits for the RESULT tag of 'task'. Past the slow threshold the task is queued once more
+     * for any other worker, and this one keeps waiting in case it still finishes first.
+     * @return false if every task was merged meanwhile and this worker can be let go.
+     */
+    private boolean awaitResult(Socket socket, DataInputStream in, Task task) throws IOException {
+        boolean requeued = false;
+        socket.setSoTimeout((int) slowAfterMillis);
+        while (true) {
+            try {
+                byte tag = in.readByte();
+                socket.setSoTimeout(0);
+                if (tag != BatchProtocol.RESULT) throw new IOException("Unexpected message tag " + tag);
+                return true;
+            } catch (SocketTimeoutException e) {
+                if (remaining.getCount() == 0) return false;
+                if (!requeued && !completed.contains(task.id)) {
+                    requeued = true;
+                    pending.addFirst(task);
+                    reassigned.incrementAndGet();
+                    System.out.printf("[Coordinator] Task %d is slow; queued for another worker.%n", task.id);
+                }
+            }
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Already closed by the peer.
+        }
+    }
+
+    private static void closeQuietly(ServerSocket server) {
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // Closing only stops the acceptor.
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        long missions = 200_000;
+        long taskSize = 2_000;
+        long seed = 0;
+        int port = 0;
+        int spawn = 4;
+        long slowAfter = 10_000;
+        long idleTimeout = 60_000;
+        boolean chaos = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--missions": missions = Long.parseLong(args[++i]); break;
+                case "--task-size": taskSize = Long.parseLong(args[++i]); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--port": port = Integer.parseInt(args[++i]); break;
+                case "--spawn": spawn = Integer.parseInt(args[++i]); break;
+                case "--slow-after-ms": slowAfter = Long.parseLong(args[++i]); break;
+                case "--idle-timeout-ms": idleTimeout = Long.parseLong(args[++i]); break;
+                case "--chaos": chaos = true; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        BatchCoordinator coordinator = new BatchCoordinator(seed, missions, taskSize, slowAfter, idleTimeout);
+        List<Process> workers = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.printf("[Coordinator] %,d missions in %d tasks, listening on port %d.%n",
+                    missions, coordinator.taskCount, server.getLocalPort());
+            if (spawn == 0) {
+                System.out.printf("[Coordinator] Start workers with: java -cp <classpath> %s localhost %d%n",
+                        BatchWorker.class.getName(), server.getLocalPort());
+            }
+            int threadsPerWorker = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, spawn));
+            for (int i = 0; i < spawn; i++) {
+                workers.add(spawnWorker(server.getLocalPort(), "worker-" + i, threadsPerWorker,
+                        chaos && i == 1 ? 1 : -1, chaos && i == 2 ? slowAfter * 3 : 0));
+            }
+
+            long start = System.nanoTime();
+            MissionStats stats = coordinator.run(server);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println();
+            for (WorkerReport report : coordinator.reports) System.out.println("[Coordinator] " + report);
+            System.out.printf("[Coordinator] %,d missions in %.2f s = %,.0f missions/s overall "
+                            + "(%d tasks reassigned, %d duplicate results discarded)%n",
+                    stats.getMissions(), seconds, stats.getMissions() / seconds,
+                    coordinator.reassigned.get(), coordinator.duplicates.get());
+            System.out.print(stats.formatReport());
+        } finally {
+            for (Process worker : workers) {
+                if (!worker.waitFor(5, TimeUnit.SECONDS)) worker.destroy();
+            }
+        }
+    }
+
+    // Starts a worker JVM with this JVM's java binary and classpath.
+    private static Process spawnWorker(int port, String name, int threads, int crashAfter, long delayMillis)
+            throws IOException {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        List<String> command = new ArrayList<>(List.of(java.toString(),
+                "-cp", System.getProperty("java.class.path"), BatchWorker.class.getName(),
+                "localhost", String.valueOf(port), "--name", name, "--threads", String.valueOf(threads)));
+        if (crashAfter >= 0) command.addAll(List.of("--crash-after", String.valueOf(crashAfter)));
+        if (delayMillis > 0) command.addAll(List.of("--delay-ms", String.valueOf(delayMillis)));
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+}
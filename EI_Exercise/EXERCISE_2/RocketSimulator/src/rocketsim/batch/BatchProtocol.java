@@ -0,0 +1,21 @@
+package rocketsim.batch;
+
+/**
+ * Messages between BatchCoordinator and BatchWorker over a local TCP connection,
+ * written with DataOutputStream (big-endian). Every message starts with a one-byte tag.
+ *
+ *   worker -> coordinator  HELLO    int magic, UTF name, int threads
+ *   coordinator -> worker  ASSIGN   long taskId, long seedStart, long seedEnd
+ *   worker -> coordinator  RESULT   long taskId, long busyNanos, MissionStats
+ *   coordinator -> worker  SHUTDOWN
+ */
+final class BatchProtocol {
+    static final int MAGIC = 0x524B5333; // "RKS3", bumped whenever MissionStats changes format
+
+    static final byte HELLO = 1;
+    static final byte ASSIGN = 2;
+    static final byte RESULT = 3;
+    static final byte SHUTDOWN = 4;
+
+    private BatchProtocol() {}
+}
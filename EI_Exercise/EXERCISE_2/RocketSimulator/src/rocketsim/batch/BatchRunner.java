@@ -0,0 +1,65 @@
+package rocketsim.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * Runs a seed range on all cores of this JVM: the range is cut into one contiguous slice
+ * per thread, each slice aggregates into its own MissionStats and the slices are merged.
+ */
+public final class BatchRunner {
+    private final ExecutorService pool;
+    private final int threads;
+    private final FailureModel failureModel;
+    private final SimulatorPool simulators;
+
+    public BatchRunner(int threads) {
+        this(threads, FailureModel.nominal());
+    }
+
+    public BatchRunner(int threads, FailureModel failureModel) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1");
+        this.threads = threads;
+        this.failureModel = failureModel;
+        this.simulators = new SimulatorPool(MissionRunner.leoSpec(), Logger.silent("batch"), threads);
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "batch-runner");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public MissionStats run(long seedStart, long seedEnd) throws InterruptedException {
+        long count = seedEnd - seedStart;
+        int slices = (int) Math.max(1, Math.min(threads, count));
+        List<Callable<MissionStats>> work = new ArrayList<>(slices);
+        for (int i = 0; i < slices; i++) {
+            long from = seedStart + count * i / slices;
+            long to = seedStart + count * (i + 1) / slices;
+            work.add(() -> new MissionRunner(simulators, failureModel).runRange(from, to, new MissionStats()));
+        }
+
+        MissionStats total = new MissionStats();
+        for (Future<MissionStats> part : pool.invokeAll(work)) {
+            try {
+                total.merge(part.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Mission batch failed: " + e.getCause(), e.getCause());
+            }
+        }
+        return total;
+    }
+
+    public int getThreads() { return threads; }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package rocketsim.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Worker process for distributed batch runs: connects to a BatchCoordinator, simulates
+ * each seed range it is assigned on all local cores, and sends back the merged MissionStats.
+ * It exits when the coordinator sends SHUTDOWN or closes the connection.
+ *
+ * Usage: java rocketsim.batch.BatchWorker <host> <port> [--name n] [--threads n]
+ *                                          [--crash-after tasks] [--delay-ms ms]
+ * --crash-after and --delay-ms simulate a dying or slow machine, to exercise reassignment.
+ */
+public class BatchWorker {
+    private final String name;
+    private final int threads;
+    private final int crashAfterTasks;
+    private final long delayMillis;
+
+    public BatchWorker(String name, int threads, int crashAfterTasks, long delayMillis) {
+        this.name = name;
+        this.threads = threads;
+        this.crashAfterTasks = crashAfterTasks;
+        this.delayMillis = delayMillis;
+    }
+
+    public void run(String host, int port) throws IOException, InterruptedException {
+        BatchRunner runner = new BatchRunner(threads);
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeByte(BatchProtocol.HELLO);
+            out.writeInt(BatchProtocol.MAGIC);
+            out.writeUTF(name);
+            out.writeInt(threads);
+            out.flush();
+
+            int tasksDone = 0;
+            while (true) {
+                byte tag;
+                try {
+                    tag = in.readByte();
+                } catch (EOFException e) {
+                    break; // Coordinator is gone; nothing left to do.
+                }
+                if (tag == BatchProtocol.SHUTDOWN) break;
+                if (tag != BatchProtocol.ASSIGN) throw new IOException("Unexpected message tag " + tag);
+
+                long taskId = in.readLong();
+                long seedStart = in.readLong();
+                long seedEnd = in.readLong();
+                if (tasksDone == crashAfterTasks) {
+                    System.err.printf("[%s] Simulated crash while holding task %d.%n", name, taskId);
+                    Runtime.getRuntime().halt(1);
+                }
+
+                long start = System.nanoTime();
+                MissionStats stats = runner.run(seedStart, seedEnd);
+                if (delayMillis > 0) Thread.sleep(delayMillis);
+                long busyNanos = System.nanoTime() - start;
+
+                out.writeByte(BatchProtocol.RESULT);
+                out.writeLong(taskId);
+                out.writeLong(busyNanos);
+                stats.writeTo(out);
+                out.flush();
+                tasksDone++;
+            }
+            System.out.printf("[%s] Finished after %d tasks.%n", name, tasksDone);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BatchWorker <host> <port> [--name n] [--threads n] "
+                    + "[--crash-after tasks] [--delay-ms ms]");
+            System.exit(2);
+        }
+        String name = "worker-" + ProcessHandle.current().pid();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int crashAfter = -1;
+        long delay = 0;
+        for (int i = 2; i < args.length; i += 2) {
+            if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for option " + args[i]);
+            switch (args[i]) {
+                case "--name": name = args[i + 1]; break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--crash-after": crashAfter = Integer.parseInt(args[i + 1]); break;
+                case "--delay-ms": delay = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        new BatchWorker(name, threads, crashAfter, delay).run(args[0], Integer.parseInt(args[1]));
+    }
+}
@@ -0,0 +1,56 @@
+package rocketsim.batch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared accumulator that many threads merge their per-thread QuantileSketches into
+ * without locking: buckets are a fixed AtomicLongArray covering
+ * [QuantileSketch.MIN_TRACKED_VALUE, maxValue], so merging is one atomic add per
+ * non-empty bucket. Take a snapshot() to query it.
+ */
+public final class ConcurrentQuantileSketch {
+    private final double relativeAccuracy;
+    private final double maxValue;
+    private final int offset;
+    private final AtomicLongArray counts;
+    private final LongAdder zeroCount = new LongAdder();
+    // Non-negative doubles order the same as their bit patterns, so min/max can be CAS'd as longs.
+    private final AtomicLong minBits = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+    private final AtomicLong maxBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+    public ConcurrentQuantileSketch(double relativeAccuracy, double maxValue) {
+        QuantileSketch layout = new QuantileSketch(relativeAccuracy);
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxValue = maxValue;
+        this.offset = layout.indexOf(QuantileSketch.MIN_TRACKED_VALUE);
+        this.counts = new AtomicLongArray(layout.indexOf(maxValue) - offset + 1);
+    }
+
+    /**
+     * Adds every bucket of 'local' to this sketch. Safe to call from any number of threads;
+     * 'local' must not be modified meanwhile.
+     */
+    public void merge(QuantileSketch local) {
+        local.checkCompatible(relativeAccuracy);
+        if (local.getCount() == 0) return;
+        if (local.getMax() > maxValue) {
+            throw new IllegalArgumentException("Value " + local.getMax() + " exceeds the sketch range " + maxValue);
+        }
+        local.forEachBucket((index, count) -> counts.getAndAdd(index - offset, count));
+        zeroCount.add(local.getZeroCount());
+        minBits.accumulateAndGet(Double.doubleToRawLongBits(local.getMin()), Math::min);
+        maxBits.accumulateAndGet(Double.doubleToRawLongBits(local.getMax()), Math::max);
+    }
+
+    /**
+     * Copies the current buckets into a plain sketch. Concurrent merges may be partly included.
+     */
+    public QuantileSketch snapshot() {
+        long[] copy = new long[counts.length()];
+        for (int i = 0; i < copy.length; i++) copy[i] = counts.get(i);
+        return QuantileSketch.of(relativeAccuracy, offset, copy, zeroCount.sum(),
+                Double.longBitsToDouble(minBits.get()), Double.longBitsToDouble(maxBits.get()));
+    }
+}
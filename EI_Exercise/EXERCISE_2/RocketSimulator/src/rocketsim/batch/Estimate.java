@@ -0,0 +1,32 @@
+package rocketsim.batch;
+
+/**
+ * A point estimate with its standard error, e.g. a success probability or a mean.
+ * Confidence intervals use the normal approximation, valid once a few dozen events are seen.
+ */
+public final class Estimate {
+    public static final double Z_95 = 1.959964;
+
+    private final double value;
+    private final double standardError;
+
+    public Estimate(double value, double standardError) {
+        this.value = value;
+        this.standardError = standardError;
+    }
+
+    public double getValue() { return value; }
+    public double getStandardError() { return standardError; }
+
+    public double halfWidth(double z) { return z * standardError; }
+
+    // Half-width relative to the estimate; infinite while the estimate is 0.
+    public double relativeHalfWidth(double z) {
+        return value == 0 ? Double.POSITIVE_INFINITY : halfWidth(z) / Math.abs(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.6g +/- %.2g (95%% CI)", value, halfWidth(Z_95));
+    }
+}
@@ -0,0 +1,78 @@
+package rocketsim.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import rocketsim.state.FailureModel;
+
+/**
+ * Runs the same seeds once with nominal failure probabilities and once with a biased
+ * FailureModel, and compares the weighted estimates: both should agree within their
+ * confidence intervals, and the biased run should need far fewer missions for the same
+ * relative precision on the outcomes it targets.
+ *
+ * Usage: java rocketsim.batch.ImportanceSamplingRun [--missions n] [--threads n]
+ *            [--bias MODE=p,...] [--precision relativeHalfWidth]
+ * Default bias: PRE_LAUNCH_MALFUNCTION=0.1 (nominal 0.006).
+ */
+public class ImportanceSamplingRun {
+
+    public static void main(String[] args) throws InterruptedException {
+        long missions = 50_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        FailureModel biased = FailureModel.parse("PRE_LAUNCH_MALFUNCTION=0.1");
+        double precision = 0.05;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--missions": missions = Long.parseLong(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--bias": biased = FailureModel.parse(args[++i]); break;
+                case "--precision": precision = Double.parseDouble(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        MissionStats plain = run(FailureModel.nominal(), missions, threads);
+        MissionStats weighted = run(biased, missions, threads);
+
+        System.out.printf("%,d missions each; sampling model: %s%n", missions, biased);
+        System.out.printf("Missions needed for +/-%.0f%% relative precision (95%% CI):%n", precision * 100);
+        System.out.printf("  %-62s %-32s %-32s %12s %12s%n", "estimate", "plain", "importance-sampled",
+                "plain n", "IS n");
+        for (Map.Entry<String, Estimate[]> row : rows(plain, weighted).entrySet()) {
+            Estimate p = row.getValue()[0];
+            Estimate w = row.getValue()[1];
+            System.out.printf("  %-62s %-32s %-32s %,12.0f %,12.0f%n", row.getKey(), p, w,
+                    required(p, missions, precision), required(w, missions, precision));
+        }
+        System.out.printf("Effective sample size of the biased run: %,.0f%n", weighted.effectiveSampleSize());
+    }
+
+    private static MissionStats run(FailureModel model, long missions, int threads) throws InterruptedException {
+        BatchRunner runner = new BatchRunner(threads, model);
+        try {
+            return runner.run(0, missions);
+        } finally {
+            runner.shutdown();
+        }
+    }
+
+    private static Map<String, Estimate[]> rows(MissionStats plain, MissionStats weighted) {
+        Map<String, Estimate[]> rows = new LinkedHashMap<>();
+        rows.put("P(success)", new Estimate[] {plain.successProbability(), weighted.successProbability()});
+        rows.put("P(fuel leak)", new Estimate[] {plain.fuelLeakProbability(), weighted.fuelLeakProbability()});
+        TreeSet<String> reasons = new TreeSet<>(plain.getFailures().keySet());
+        reasons.addAll(weighted.getFailures().keySet());
+        for (String reason : reasons) {
+            rows.put("P(" + reason + ")",
+                    new Estimate[] {plain.failureProbability(reason), weighted.failureProbability(reason)});
+        }
+        return rows;
+    }
+
+    // Missions for the relative half-width to reach 'precision', from the variance observed so far.
+    private static double required(Estimate estimate, long missions, double precision) {
+        double ratio = estimate.relativeHalfWidth(Estimate.Z_95) / precision;
+        return missions * ratio * ratio;
+    }
+}
@@ -0,0 +1,51 @@
+package rocketsim.batch;
+
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.model.Rocket;
+
+/**
+ * Result of one headless mission: what a batch aggregates instead of the mission log.
+ */
+public final class MissionOutcome {
+    private final long seed;
+    private final boolean success;
+    private final String failureReason;
+    private final int endTimeSeconds;
+    private final double peakAltitudeKm;
+    private final double fuelPercent;
+    private final boolean fuelLeak;
+    private final double weight;
+
+    public MissionOutcome(long seed, boolean success, String failureReason, int endTimeSeconds,
+                          double peakAltitudeKm, double fuelPercent, boolean fuelLeak, double weight) {
+        this.seed = seed;
+        this.success = success;
+        this.failureReason = failureReason;
+        this.endTimeSeconds = endTimeSeconds;
+        this.peakAltitudeKm = peakAltitudeKm;
+        this.fuelPercent = fuelPercent;
+        this.fuelLeak = fuelLeak;
+        this.weight = weight;
+    }
+
+    static MissionOutcome of(long seed, RocketLaunchSimulator simulator, double peakAltitudeKm) {
+        Rocket rocket = simulator.getRocket();
+        boolean success = simulator.isMissionSuccessful();
+        return new MissionOutcome(seed, success, success ? null : simulator.getLastFailureReason(),
+                rocket.getTimeElapsedSeconds(), peakAltitudeKm, rocket.getFuelPercent(), rocket.isFuelLeakActive(),
+                simulator.getLikelihoodRatio());
+    }
+
+    public long getSeed() { return seed; }
+    public boolean isSuccess() { return success; }
+    // Null for successful missions.
+    public String getFailureReason() { return failureReason; }
+    // Time to orbit on success, time of failure otherwise (0 for pre-launch failures).
+    public int getEndTimeSeconds() { return endTimeSeconds; }
+    public double getPeakAltitudeKm() { return peakAltitudeKm; }
+    // Fuel left at orbital insertion on success.
+    public double getFuelPercent() { return fuelPercent; }
+    public boolean isFuelLeak() { return fuelLeak; }
+    // Likelihood ratio under importance sampling; 1 for nominal runs.
+    public double getWeight() { return weight; }
+}
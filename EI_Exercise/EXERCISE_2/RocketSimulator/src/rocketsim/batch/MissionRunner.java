@@ -0,0 +1,113 @@
+package rocketsim.batch;
+
+import java.util.concurrent.CancellationException;
+import rocketsim.core.NominalTrajectory;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.director.MissionDirector;
+import rocketsim.exception.ProfileLoadException;
+import rocketsim.model.RocketSpec;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * Runs complete missions headlessly: checks, launch and ascent at full speed, no observers.
+ * A mission's failures are drawn from a random source seeded from its seed, so a seed range
+ * always produces the same outcomes no matter which thread or worker runs it.
+ * With a biased FailureModel, each outcome carries its likelihood-ratio weight.
+ * Simulators come from a SimulatorPool and are reset in place between missions.
+ * Unless disabled, each ascent starts by jumping along the pool's failure-free trajectory to
+ * the mission's first failure, so only the tail after it is simulated; outcomes are identical.
+ */
+public final class MissionRunner {
+    // Guard against a profile that never runs out of fuel or reaches orbit.
+    public static final int MAX_MISSION_SECONDS = 100_000;
+
+    private final SimulatorPool pool;
+    private final FailureModel failureModel;
+    private final boolean skipNominal;
+
+    public MissionRunner(Logger logger) {
+        this(logger, FailureModel.nominal());
+    }
+
+    // Flies the LEO profile with a private single-simulator pool.
+    public MissionRunner(Logger logger, FailureModel failureModel) {
+        this(new SimulatorPool(leoSpec(), logger, 1), failureModel);
+    }
+
+    public MissionRunner(SimulatorPool pool, FailureModel failureModel) {
+        this(pool, failureModel, true);
+    }
+
+    /**
+     * @param skipNominal Whether to fast-forward the failure-free part of each ascent;
+     *                    turn it off to simulate every tick, e.g. to compare the two.
+     */
+    public MissionRunner(SimulatorPool pool, FailureModel failureModel, boolean skipNominal) {
+        this.pool = pool;
+        this.failureModel = failureModel;
+        this.skipNominal = skipNominal;
+    }
+
+    public MissionOutcome run(long seed) {
+        RocketLaunchSimulator simulator = pool.acquire(mix(seed));
+        try {
+            simulator.setFailureModel(failureModel);
+            return fly(seed, simulator, skipNominal ? pool.getNominalTrajectory() : null);
+        } finally {
+            pool.release(simulator);
+        }
+    }
+
+    private static MissionOutcome fly(long seed, RocketLaunchSimulator simulator, NominalTrajectory nominal) {
+        simulator.initiatePreLaunchChecks();
+
+        double peakAltitudeKm = 0.0;
+        if (simulator.isChecksComplete()) {
+            simulator.beginAscent();
+            if (nominal != null) peakAltitudeKm = nominal.getPeakAltitudeKm(simulator.fastForwardNominal(nominal));
+            while (simulator.isMissionActive()) {
+                simulator.advanceSimulation(1);
+                peakAltitudeKm = Math.max(peakAltitudeKm, simulator.getRocket().getAltitudeKm());
+                if (simulator.getRocket().getTimeElapsedSeconds() >= MAX_MISSION_SECONDS) {
+                    simulator.handleMissionFailure("Mission timed out.");
+                }
+            }
+        }
+        return MissionOutcome.of(seed, simulator, peakAltitudeKm);
+    }
+
+    /**
+     * Runs seeds [seedStart, seedEnd) into 'stats'. Checks for interruption between missions,
+     * so a cancelled batch stops within one mission.
+     * @throws CancellationException if the thread was interrupted; 'stats' is then incomplete.
+     */
+    public MissionStats runRange(long seedStart, long seedEnd, MissionStats stats) {
+        for (long seed = seedStart; seed < seedEnd; seed++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Mission range cancelled at seed " + seed);
+            }
+            stats.add(run(seed));
+        }
+        return stats;
+    }
+
+    static RocketSpec leoSpec() {
+        try {
+            return new MissionDirector().loadSpec("leo");
+        } catch (ProfileLoadException e) {
+            throw new IllegalStateException("Failed to load the LEO profile: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The random-source seed mission 'seed' flies with. Consecutive seeds give correlated
+     * first draws from java.util.Random, so they are scrambled first.
+     */
+    public static long mix(long seed) {
+        long z = seed + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
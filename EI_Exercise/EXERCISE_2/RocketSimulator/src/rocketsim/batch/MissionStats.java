@@ -0,0 +1,204 @@
+package rocketsim.batch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable aggregate of mission outcomes. Each thread or worker fills its own instance
+ * and the partials are merged; the size does not grow with the number of missions,
+ * only with the number of distinct failure reasons. Every metric keeps exact moments
+ * (RunningStat) and a QuantileSketch for percentiles. Not thread-safe.
+ *
+ * Under importance sampling the counters, moments and sketches describe the biased runs
+ * that were simulated; the probability estimates (successProbability() etc.) are weighted
+ * by each mission's likelihood ratio and are unbiased for the nominal model.
+ */
+public final class MissionStats {
+    private long missions;
+    private long successes;
+    private long fuelLeaks;
+    private final RunningStat timeToOrbitS = new RunningStat();
+    private final RunningStat fuelAtInsertionPct = new RunningStat();
+    private final RunningStat peakAltitudeKm = new RunningStat();
+    private final QuantileSketch timeToOrbitSketch = new QuantileSketch();
+    private final QuantileSketch fuelAtInsertionSketch = new QuantileSketch();
+    private final QuantileSketch peakAltitudeSketch = new QuantileSketch();
+    // Failure time per reason; the count is the number of failures.
+    private final Map<String, RunningStat> failures = new TreeMap<>();
+    private final Map<String, QuantileSketch> failureTimeSketches = new TreeMap<>();
+    // Likelihood-weighted event indicators, and the weights themselves for diagnostics.
+    private final WeightedEstimate successWeight = new WeightedEstimate();
+    private final WeightedEstimate fuelLeakWeight = new WeightedEstimate();
+    private final Map<String, WeightedEstimate> failureWeights = new TreeMap<>();
+    private final RunningStat weights = new RunningStat();
+
+    public void add(MissionOutcome outcome) {
+        missions++;
+        double weight = outcome.getWeight();
+        weights.add(weight);
+        if (outcome.isFuelLeak()) {
+            fuelLeaks++;
+            fuelLeakWeight.add(weight);
+        }
+        peakAltitudeKm.add(outcome.getPeakAltitudeKm());
+        peakAltitudeSketch.add(outcome.getPeakAltitudeKm());
+        if (outcome.isSuccess()) {
+            successes++;
+            successWeight.add(weight);
+            timeToOrbitS.add(outcome.getEndTimeSeconds());
+            timeToOrbitSketch.add(outcome.getEndTimeSeconds());
+            fuelAtInsertionPct.add(outcome.getFuelPercent());
+            fuelAtInsertionSketch.add(outcome.getFuelPercent());
+        } else {
+            String reason = outcome.getFailureReason() == null ? "Unknown" : outcome.getFailureReason();
+            failures.computeIfAbsent(reason, r -> new RunningStat()).add(outcome.getEndTimeSeconds());
+            failureTimeSketches.computeIfAbsent(reason, r -> new QuantileSketch()).add(outcome.getEndTimeSeconds());
+            failureWeights.computeIfAbsent(reason, r -> new WeightedEstimate()).add(weight);
+        }
+    }
+
+    public MissionStats merge(MissionStats other) {
+        missions += other.missions;
+        successes += other.successes;
+        fuelLeaks += other.fuelLeaks;
+        timeToOrbitS.merge(other.timeToOrbitS);
+        fuelAtInsertionPct.merge(other.fuelAtInsertionPct);
+        peakAltitudeKm.merge(other.peakAltitudeKm);
+        timeToOrbitSketch.merge(other.timeToOrbitSketch);
+        fuelAtInsertionSketch.merge(other.fuelAtInsertionSketch);
+        peakAltitudeSketch.merge(other.peakAltitudeSketch);
+        successWeight.merge(other.successWeight);
+        fuelLeakWeight.merge(other.fuelLeakWeight);
+        weights.merge(other.weights);
+        for (Map.Entry<String, RunningStat> e : other.failures.entrySet()) {
+            failures.computeIfAbsent(e.getKey(), r -> new RunningStat()).merge(e.getValue());
+        }
+        for (Map.Entry<String, QuantileSketch> e : other.failureTimeSketches.entrySet()) {
+            failureTimeSketches.computeIfAbsent(e.getKey(), r -> new QuantileSketch()).merge(e.getValue());
+        }
+        for (Map.Entry<String, WeightedEstimate> e : other.failureWeights.entrySet()) {
+            failureWeights.computeIfAbsent(e.getKey(), r -> new WeightedEstimate()).merge(e.getValue());
+        }
+        return this;
+    }
+
+    public long getMissions() { return missions; }
+    public long getSuccesses() { return successes; }
+    public long getFuelLeaks() { return fuelLeaks; }
+    public double getSuccessRate() { return missions == 0 ? Double.NaN : (double) successes / missions; }
+    public RunningStat getTimeToOrbitS() { return timeToOrbitS; }
+    public RunningStat getFuelAtInsertionPct() { return fuelAtInsertionPct; }
+    public RunningStat getPeakAltitudeKm() { return peakAltitudeKm; }
+    public Map<String, RunningStat> getFailures() { return Collections.unmodifiableMap(failures); }
+    public QuantileSketch getTimeToOrbitSketch() { return timeToOrbitSketch; }
+    public QuantileSketch getFuelAtInsertionSketch() { return fuelAtInsertionSketch; }
+    public QuantileSketch getPeakAltitudeSketch() { return peakAltitudeSketch; }
+    public Map<String, QuantileSketch> getFailureTimeSketches() { return Collections.unmodifiableMap(failureTimeSketches); }
+    public RunningStat getWeights() { return weights; }
+
+    // Nominal-model probability of reaching orbit.
+    public Estimate successProbability() { return successWeight.over(missions); }
+
+    public Estimate fuelLeakProbability() { return fuelLeakWeight.over(missions); }
+
+    public Estimate failureProbability(String reason) {
+        WeightedEstimate weight = failureWeights.get(reason);
+        return weight == null ? new Estimate(0.0, 0.0) : weight.over(missions);
+    }
+
+    /**
+     * Kish's effective sample size: how many unweighted missions the weighted sample is worth.
+     * Equals the mission count for nominal runs.
+     */
+    public double effectiveSampleSize() {
+        long n = weights.getCount();
+        if (n == 0) return 0.0;
+        double sum = weights.getMean() * n;
+        double sumSquares = weights.getVariance() * (n - 1) + sum * weights.getMean();
+        return sum * sum / sumSquares;
+    }
+
+    /**
+     * Compact binary form used between batch workers and the coordinator:
+     * three counters, three (RunningStat, QuantileSketch) pairs, the weighted estimates and
+     * one (reason, RunningStat, QuantileSketch, weighted estimate) entry per failure reason.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(missions);
+        out.writeLong(successes);
+        out.writeLong(fuelLeaks);
+        timeToOrbitS.writeTo(out);
+        timeToOrbitSketch.writeTo(out);
+        fuelAtInsertionPct.writeTo(out);
+        fuelAtInsertionSketch.writeTo(out);
+        peakAltitudeKm.writeTo(out);
+        peakAltitudeSketch.writeTo(out);
+        successWeight.writeTo(out);
+        fuelLeakWeight.writeTo(out);
+        weights.writeTo(out);
+        out.writeInt(failures.size());
+        for (Map.Entry<String, RunningStat> e : failures.entrySet()) {
+            out.writeUTF(e.getKey());
+            e.getValue().writeTo(out);
+            failureTimeSketches.get(e.getKey()).writeTo(out);
+            failureWeights.get(e.getKey()).writeTo(out);
+        }
+    }
+
+    public static MissionStats readFrom(DataInput in) throws IOException {
+        MissionStats stats = new MissionStats();
+        stats.missions = in.readLong();
+        stats.successes = in.readLong();
+        stats.fuelLeaks = in.readLong();
+        stats.timeToOrbitS.merge(RunningStat.readFrom(in));
+        stats.timeToOrbitSketch.merge(QuantileSketch.readFrom(in));
+        stats.fuelAtInsertionPct.merge(RunningStat.readFrom(in));
+        stats.fuelAtInsertionSketch.merge(QuantileSketch.readFrom(in));
+        stats.peakAltitudeKm.merge(RunningStat.readFrom(in));
+        stats.peakAltitudeSketch.merge(QuantileSketch.readFrom(in));
+        stats.successWeight.merge(WeightedEstimate.readFrom(in));
+        stats.fuelLeakWeight.merge(WeightedEstimate.readFrom(in));
+        stats.weights.merge(RunningStat.readFrom(in));
+        int reasons = in.readInt();
+        for (int i = 0; i < reasons; i++) {
+            String reason = in.readUTF();
+            stats.failures.put(reason, RunningStat.readFrom(in));
+            stats.failureTimeSketches.put(reason, QuantileSketch.readFrom(in));
+            stats.failureWeights.put(reason, WeightedEstimate.readFrom(in));
+        }
+        return stats;
+    }
+
+    public String formatReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Missions: %,d  Successes: %,d (%.3f%%)  Fuel leaks: %,d%n",
+                missions, successes, 100.0 * getSuccessRate(), fuelLeaks));
+        sb.append("  P(success):   ").append(successProbability()).append('\n');
+        sb.append("  P(fuel leak): ").append(fuelLeakProbability()).append('\n');
+        for (String reason : failureWeights.keySet()) {
+            sb.append("  P(").append(reason).append("): ").append(failureProbability(reason)).append('\n');
+        }
+        if (weights.getMin() != 1.0 || weights.getMax() != 1.0) {
+            sb.append(String.format("  Importance weights: mean=%.4f min=%.3g max=%.3g, effective sample size %,.0f%n",
+                    weights.getMean(), weights.getMin(), weights.getMax(), effectiveSampleSize()));
+            sb.append("  (moments and percentiles below describe the biased sample)\n");
+        }
+        appendMetric(sb, "  Time to orbit (s):        ", timeToOrbitS, timeToOrbitSketch);
+        appendMetric(sb, "  Fuel at insertion (%):    ", fuelAtInsertionPct, fuelAtInsertionSketch);
+        appendMetric(sb, "  Peak altitude (km):       ", peakAltitudeKm, peakAltitudeSketch);
+        for (Map.Entry<String, RunningStat> e : failures.entrySet()) {
+            sb.append("  Failure: ").append(e.getKey()).append('\n');
+            appendMetric(sb, "      time of failure (s):  ", e.getValue(), failureTimeSketches.get(e.getKey()));
+        }
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String label, RunningStat stat, QuantileSketch sketch) {
+        sb.append(label).append(stat).append('\n');
+        if (sketch.getCount() > 0) sb.append("                            ").append(sketch.formatPercentiles()).append('\n');
+    }
+}
@@ -0,0 +1,245 @@
+package rocketsim.batch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Streaming quantile sketch over non-negative values, using logarithmically sized buckets
+ * (the DDSketch scheme). Bucket i covers (gamma^(i-1), gamma^i] with
+ * gamma = (1 + alpha) / (1 - alpha), and reports the point of that interval that is
+ * closest in relative terms to both ends.
+ *
+ * Accuracy: for any q, quantile(q) is within a relative error of alpha of the exact
+ * value at rank floor(q * (n - 1)) of the sorted data. Values below MIN_TRACKED_VALUE
+ * share one bucket reported as 0, so their error is absolute, at most MIN_TRACKED_VALUE.
+ * Min and max are exact. SketchAccuracyReport checks the bound against a full sort.
+ *
+ * Memory is one long per bucket between the smallest and largest value seen, about
+ * ln(max/min) / (2 * alpha) buckets: some 1,400 for values spanning six orders of
+ * magnitude at the default 0.5%, whatever the number of values.
+ * Not thread-safe; accumulate one sketch per thread and merge, or merge into a
+ * ConcurrentQuantileSketch.
+ */
+public final class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.005;
+    public static final double MIN_TRACKED_VALUE = 1e-3;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private long[] counts = new long[0];
+    private int offset; // Bucket index of counts[0].
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be in (0, 1): " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (!(value >= 0)) throw new IllegalArgumentException("Sketch values must be non-negative: " + value);
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+        if (value < MIN_TRACKED_VALUE) {
+            zeroCount++;
+        } else {
+            int index = indexOf(value);
+            ensureCapacity(index, index);
+            counts[index - offset]++;
+        }
+    }
+
+    public QuantileSketch merge(QuantileSketch other) {
+        checkCompatible(other.relativeAccuracy);
+        if (other.count == 0) return this;
+        if (other.counts.length > 0) {
+            ensureCapacity(other.offset, other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) counts[other.offset + i - offset] += other.counts[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * @param q Quantile in [0, 1], e.g. 0.99 for the 99th percentile.
+     * @return The estimated value, or NaN if the sketch is empty.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+        if (count == 0) return Double.NaN;
+        long rank = (long) (q * (count - 1));
+        if (rank == count - 1) return max;
+        if (rank < zeroCount) return min;
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) return Math.min(max, Math.max(min, valueOf(offset + i)));
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+    public double getMin() { return count == 0 ? Double.NaN : min; }
+    public double getMax() { return count == 0 ? Double.NaN : max; }
+    public double getRelativeAccuracy() { return relativeAccuracy; }
+
+    int indexOf(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    double valueOf(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    // Grows 'counts' to cover bucket indexes [low, high].
+    private void ensureCapacity(int low, int high) {
+        if (counts.length == 0) {
+            offset = low;
+            counts = new long[high - low + 1];
+            return;
+        }
+        int newLow = Math.min(low, offset);
+        int newHigh = Math.max(high, offset + counts.length - 1);
+        if (newLow == offset && newHigh == offset + counts.length - 1) return;
+        long[] grown = new long[newHigh - newLow + 1];
+        System.arraycopy(counts, 0, grown, offset - newLow, counts.length);
+        counts = grown;
+        offset = newLow;
+    }
+
+    void checkCompatible(double otherAccuracy) {
+        if (otherAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with relative accuracy "
+                    + relativeAccuracy + " and " + otherAccuracy);
+        }
+    }
+
+    // Used by ConcurrentQuantileSketch to copy buckets without exposing the array.
+    interface BucketVisitor {
+        void visit(int index, long count);
+    }
+
+    void forEachBucket(BucketVisitor visitor) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) visitor.visit(offset + i, counts[i]);
+        }
+    }
+
+    long getZeroCount() { return zeroCount; }
+
+    // Rebuilds a sketch from buckets collected elsewhere (e.g. a concurrent accumulator).
+    static QuantileSketch of(double relativeAccuracy, int offset, long[] counts, long zeroCount, double min, double max) {
+        QuantileSketch sketch = new QuantileSketch(relativeAccuracy);
+        sketch.offset = offset;
+        sketch.counts = counts;
+        sketch.zeroCount = zeroCount;
+        sketch.count = zeroCount + Arrays.stream(counts).sum();
+        sketch.min = min;
+        sketch.max = max;
+        sketch.trim();
+        return sketch;
+    }
+
+    // Drops empty buckets at both ends.
+    private void trim() {
+        int first = 0;
+        int last = counts.length - 1;
+        while (first <= last && counts[first] == 0) first++;
+        while (last >= first && counts[last] == 0) last--;
+        if (first > last) {
+            counts = new long[0];
+        } else if (first > 0 || last < counts.length - 1) {
+            counts = Arrays.copyOfRange(counts, first, last + 1);
+            offset += first;
+        }
+    }
+
+    /**
+     * Sparse binary form: header, then (index delta, count) pairs for non-empty buckets,
+     * both as variable-length integers, so a sketch usually takes a few hundred bytes.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeDouble(relativeAccuracy);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        writeVarLong(out, zeroCount);
+        int nonEmpty = 0;
+        for (long c : counts) if (c != 0) nonEmpty++;
+        writeVarLong(out, nonEmpty);
+        if (nonEmpty == 0) return;
+        out.writeInt(offset);
+        int previous = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            writeVarLong(out, i - previous);
+            writeVarLong(out, counts[i]);
+            previous = i;
+        }
+    }
+
+    public static QuantileSketch readFrom(DataInput in) throws IOException {
+        QuantileSketch sketch = new QuantileSketch(in.readDouble());
+        sketch.min = in.readDouble();
+        sketch.max = in.readDouble();
+        sketch.zeroCount = readVarLong(in);
+        sketch.count = sketch.zeroCount;
+        int nonEmpty = (int) readVarLong(in);
+        if (nonEmpty == 0) return sketch;
+        int base = in.readInt();
+        int[] positions = new int[nonEmpty];
+        long[] values = new long[nonEmpty];
+        int position = 0;
+        for (int i = 0; i < nonEmpty; i++) {
+            position += (int) readVarLong(in);
+            positions[i] = position;
+            values[i] = readVarLong(in);
+            sketch.count += values[i];
+        }
+        sketch.offset = base;
+        sketch.counts = new long[position + 1];
+        for (int i = 0; i < nonEmpty; i++) sketch.counts[positions[i]] = values[i];
+        return sketch;
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable-length integer.");
+    }
+
+    public String formatPercentiles() {
+        if (count == 0) return "";
+        return String.format("p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f",
+                quantile(0.5), quantile(0.9), quantile(0.99), quantile(0.999));
+    }
+}
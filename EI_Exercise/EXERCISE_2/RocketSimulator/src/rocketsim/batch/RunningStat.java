@@ -0,0 +1,85 @@
+package rocketsim.batch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count, mean, variance, min and max of a stream of values in constant space.
+ * Uses Welford's update and Chan's parallel merge, so partial results from
+ * different threads or workers combine without loss of precision.
+ */
+public final class RunningStat {
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    public void merge(RunningStat other) {
+        if (other.count == 0) return;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return count == 0 ? Double.NaN : mean; }
+    public double getMin() { return count == 0 ? Double.NaN : min; }
+    public double getMax() { return count == 0 ? Double.NaN : max; }
+
+    // Sample variance (n - 1 denominator).
+    public double getVariance() { return count < 2 ? 0.0 : m2 / (count - 1); }
+    public double getStdDev() { return Math.sqrt(getVariance()); }
+
+    // The mean with its standard error, for confidence intervals.
+    public Estimate meanEstimate() {
+        return new Estimate(getMean(), count == 0 ? Double.NaN : Math.sqrt(getVariance() / count));
+    }
+
+    // 40 bytes on the wire.
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(m2);
+        out.writeDouble(min);
+        out.writeDouble(max);
+    }
+
+    static RunningStat readFrom(DataInput in) throws IOException {
+        RunningStat stat = new RunningStat();
+        stat.count = in.readLong();
+        stat.mean = in.readDouble();
+        stat.m2 = in.readDouble();
+        stat.min = in.readDouble();
+        stat.max = in.readDouble();
+        return stat;
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) return "n=0";
+        return String.format("n=%d mean=%.2f sd=%.2f min=%.2f max=%.2f", count, mean, getStdDev(), min, max);
+    }
+}
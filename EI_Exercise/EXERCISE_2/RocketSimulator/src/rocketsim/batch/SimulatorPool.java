@@ -0,0 +1,65 @@
+package rocketsim.batch;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import rocketsim.core.NominalTrajectory;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.model.RocketSpec;
+import rocketsim.util.Logger;
+
+/**
+ * Recycles simulators for one vehicle spec, so batch workers pay for construction once per
+ * thread instead of once per mission. acquire() hands out a simulator reset to the pad;
+ * release() returns it. The free list is array-backed, so the steady state allocates nothing.
+ * Thread-safe. Pooled simulators share the pool's logger and must not have observers.
+ * The pool also holds its spec's failure-free trajectory, computed once, for
+ * RocketLaunchSimulator.fastForwardNominal.
+ */
+public final class SimulatorPool {
+    private final RocketSpec spec;
+    private final Logger logger;
+    private final ArrayBlockingQueue<RocketLaunchSimulator> free;
+    private volatile NominalTrajectory nominal;
+
+    public SimulatorPool(RocketSpec spec, Logger logger, int capacity) {
+        this.spec = spec;
+        this.logger = logger;
+        this.free = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns a simulator in the pre-launch state with its random source seeded with 'seed'.
+     */
+    public RocketLaunchSimulator acquire(long seed) {
+        RocketLaunchSimulator simulator = free.poll();
+        if (simulator == null) simulator = new RocketLaunchSimulator(logger, spec);
+        simulator.reset(seed);
+        return simulator;
+    }
+
+    /**
+     * Gives a simulator back; it is dropped if the pool is already full.
+     */
+    public void release(RocketLaunchSimulator simulator) {
+        free.offer(simulator);
+    }
+
+    /**
+     * The spec's failure-free trajectory up to MissionRunner's timeout, computed on first use.
+     */
+    public NominalTrajectory getNominalTrajectory() {
+        NominalTrajectory table = nominal;
+        if (table == null) {
+            synchronized (this) {
+                table = nominal;
+                if (table == null) {
+                    // Stops short of the timeout so no skipped tick is one MissionRunner would end.
+                    nominal = table = NominalTrajectory.compute(spec, MissionRunner.MAX_MISSION_SECONDS - 1);
+                }
+            }
+        }
+        return table;
+    }
+
+    public int available() { return free.size(); }
+    public RocketSpec getSpec() { return spec; }
+}
@@ -0,0 +1,45 @@
+package rocketsim.batch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Accumulates w * I(event) over missions, where w is the mission's likelihood ratio. Missions
+ * without the event contribute 0, so only missions with it need to be added; the mean and
+ * its standard error are taken over the total mission count. With all weights 1 this is the
+ * plain frequency and its binomial standard error.
+ */
+final class WeightedEstimate {
+    private double sum;
+    private double sumSquares;
+
+    void add(double weight) {
+        sum += weight;
+        sumSquares += weight * weight;
+    }
+
+    void merge(WeightedEstimate other) {
+        sum += other.sum;
+        sumSquares += other.sumSquares;
+    }
+
+    Estimate over(long missions) {
+        if (missions == 0) return new Estimate(Double.NaN, Double.NaN);
+        double mean = sum / missions;
+        double variance = missions < 2 ? 0.0 : Math.max(0.0, (sumSquares - sum * mean) / (missions - 1));
+        return new Estimate(mean, Math.sqrt(variance / missions));
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeDouble(sum);
+        out.writeDouble(sumSquares);
+    }
+
+    static WeightedEstimate readFrom(DataInput in) throws IOException {
+        WeightedEstimate estimate = new WeightedEstimate();
+        estimate.sum = in.readDouble();
+        estimate.sumSquares = in.readDouble();
+        return estimate;
+    }
+}
@@ -0,0 +1,195 @@
+package rocketsim.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import rocketsim.batch.MissionRunner;
+import rocketsim.batch.SimulatorPool;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.director.MissionDirector;
+import rocketsim.model.Rocket;
+import rocketsim.model.TelemetrySnapshot;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * Allocation-regression harness: measures bytes allocated per operation on the simulator's
+ * hot paths with com.sun.management.ThreadMXBean and fails (exit code 1) when a path
+ * exceeds its budget. Paths with a budget of 0 must stay allocation-free.
+ * Budgets can be overridden per path, e.g. -Dbudget.advanceSimulation.headless=16
+ * Every path is warmed up for a fixed WARMUP_ITERATIONS first, so the verdict does not
+ * depend on how many iterations are measured.
+ * Usage: java -cp <classes+profiles> rocketsim.benchmark.AllocationHarness [iterations]
+ */
+public class AllocationHarness {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    // Enough for C2 to finish compiling (and escape-analyzing) every path, even with few measured iterations.
+    private static final int WARMUP_ITERATIONS = 5_000;
+
+    private interface Operation {
+        /** Runs the operation; returns how many ticks/ops it performed. */
+        long run() throws Exception;
+    }
+
+    private static final class Result {
+        final String name;
+        final double bytesPerOp;
+        final long budget;
+
+        Result(String name, double bytesPerOp, long budget) {
+            this.name = name;
+            this.bytesPerOp = bytesPerOp;
+            this.budget = budget;
+        }
+
+        boolean withinBudget() { return bytesPerOp <= budget; }
+    }
+
+    private final List<Result> results = new ArrayList<>();
+    private final int iterations;
+    private final long threadId = Thread.currentThread().getId();
+    private long calibration;
+
+    private AllocationHarness(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            System.out.println("Thread allocation accounting is not supported by this JVM; skipping.");
+            return;
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        if (iterations < 1) throw new IllegalArgumentException("Iterations must be positive.");
+
+        AllocationHarness harness = new AllocationHarness(iterations);
+        System.exit(harness.runAll() ? 0 : 1);
+    }
+
+    private boolean runAll() throws Exception {
+        Path shard = Files.createTempFile("alloc-harness", ".log");
+        Logger logger = Logger.forMission("alloc", shard).setSampling("TICK", Integer.MAX_VALUE);
+        calibration = measureOverhead();
+
+        // Each setup runs outside the measured region; only the lambda body is counted.
+        // Whole-mission budgets cover per-mission events (stage separation, success/failure log lines)
+        // amortized over every tick; the steady-state window must not allocate at all.
+        RocketLaunchSimulator[] sim = new RocketLaunchSimulator[1];
+        measure("advanceSimulation.headless", 64, () -> {
+            sim[0] = launched(logger, false);
+            return 1;
+        }, () -> advanceToEnd(sim[0]));
+
+        measure("advanceSimulation.observed", 2048, () -> {
+            sim[0] = launched(logger, true);
+            return 1;
+        }, () -> advanceToEnd(sim[0]));
+
+        Rocket[] rocket = new Rocket[1];
+        measure("Rocket.simulateSecond.stage1", 0, () -> {
+            rocket[0] = launched(logger, false).getRocket();
+            return 1;
+        }, () -> {
+            // The first 50 seconds of ascent contain no stage events.
+            for (int i = 0; i < 50; i++) rocket[0].simulateSecond();
+            return 50;
+        });
+
+        TelemetrySnapshot holder = new TelemetrySnapshot();
+        Rocket reader = launched(logger, false).getRocket();
+        measure("Rocket.readTelemetry", 0, null, () -> {
+            for (int i = 0; i < 1000; i++) reader.readTelemetry(holder);
+            return 1000;
+        });
+
+        measure("Logger.log.filtered", 0, null, () -> {
+            for (int i = 0; i < 1000; i++) logger.log("TICK", "filtered");
+            return 1000;
+        });
+
+        measure("Logger.log.written", 1536, null, () -> {
+            for (int i = 0; i < 100; i++) logger.log("STATUS", "allocation harness event");
+            return 100;
+        });
+
+        // Recycled simulators: reset in place, no per-mission construction or profile loading.
+        SimulatorPool pool = new SimulatorPool(new MissionDirector().loadSpec("leo"), Logger.silent("alloc"), 1);
+        measure("SimulatorPool.acquire.release", 0, null, () -> {
+            for (int i = 0; i < 100; i++) pool.release(pool.acquire(i));
+            return 100;
+        });
+
+        // A whole pooled mission; only the MissionOutcome it returns may be allocated.
+        MissionRunner runner = new MissionRunner(pool, FailureModel.nominal());
+        long[] seed = {0};
+        measure("MissionRunner.run.pooled", 64, null, () -> {
+            for (int i = 0; i < 10; i++) runner.run(seed[0]++);
+            return 10;
+        });
+
+        logger.close();
+        Files.deleteIfExists(shard);
+        return report();
+    }
+
+    private static RocketLaunchSimulator launched(Logger logger, boolean observed) {
+        RocketLaunchSimulator simulator = new RocketLaunchSimulator(logger);
+        if (observed) simulator.addObserver(status -> { });
+        simulator.setChecksComplete(true);
+        simulator.getRocket().setCurrentStage(1);
+        simulator.setState(simulator.getAscentStage1State());
+        return simulator;
+    }
+
+    private static long advanceToEnd(RocketLaunchSimulator simulator) {
+        int before = simulator.getRocket().getTimeElapsedSeconds();
+        while (simulator.isMissionActive()) simulator.advanceSimulation(1);
+        return Math.max(1, simulator.getRocket().getTimeElapsedSeconds() - before);
+    }
+
+    /**
+     * Warms the path up for the JIT, then averages allocated bytes per op over the measured iterations.
+     * @param setup Optional per-iteration preparation excluded from the measurement.
+     */
+    private void measure(String name, long defaultBudget, Operation setup, Operation body) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            if (setup != null) setup.run();
+            body.run();
+        }
+        long bytes = 0, ops = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (setup != null) setup.run();
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            ops += body.run();
+            bytes += THREADS.getThreadAllocatedBytes(threadId) - start - calibration;
+        }
+        long budget = Long.getLong("budget." + name, defaultBudget);
+        results.add(new Result(name, Math.max(0.0, (double) bytes / ops), budget));
+    }
+
+    // Bytes the measurement itself allocates, subtracted from every sample.
+    private long measureOverhead() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            long start = THREADS.getThreadAllocatedBytes(threadId);
+            min = Math.min(min, THREADS.getThreadAllocatedBytes(threadId) - start);
+        }
+        return min;
+    }
+
+    private boolean report() {
+        boolean ok = true;
+        System.out.printf("%-28s %14s %10s  %s%n", "Code path", "bytes/op", "budget", "result");
+        for (Result r : results) {
+            System.out.printf("%-28s %14.1f %10d  %s%n", r.name, r.bytesPerOp, r.budget,
+                    r.withinBudget() ? "OK" : "OVER BUDGET");
+            ok &= r.withinBudget();
+        }
+        System.out.println(ok ? "All allocation budgets met." : "Allocation budget exceeded.");
+        return ok;
+    }
+}
@@ -0,0 +1,126 @@
+package rocketsim.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import rocketsim.batch.MissionRunner;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.model.Rocket;
+import rocketsim.telemetry.DownsampledSeries;
+import rocketsim.telemetry.SeriesDownsampler;
+import rocketsim.telemetry.TrajectoryExporter;
+import rocketsim.util.Logger;
+
+/**
+ * Exports the altitude/speed/fuel series of many seeded missions at full resolution and
+ * downsampled (CSV and binary), and reports file sizes, the per-sample cost of the
+ * downsampler and how faithful the result is: the worst gap between the full series and the
+ * line through the kept points, as a fraction of the series' range, and whether each peak
+ * survived. A synthetic one-million-sample series with a one-sample spike checks that
+ * bucket merging keeps memory fixed without losing the spike.
+ * Usage: java rocketsim.benchmark.DownsampleBenchmark [missions] [points]
+ */
+public class DownsampleBenchmark {
+    // Longer than any mission of the LEO profile, so nothing is dropped.
+    private static final int FULL_RESOLUTION = 4096;
+
+    public static void main(String[] args) throws Exception {
+        int missions = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int points = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        System.out.printf("=== Trajectory downsampling: %,d missions, %d points per series ===%n", missions, points);
+
+        Path dir = Files.createTempDirectory("downsample");
+        Path full = dir.resolve("full.csv"), fullBin = dir.resolve("full.bin");
+        Path csv = dir.resolve("down.csv"), bin = dir.resolve("down.bin");
+        RocketLaunchSimulator simulator = new RocketLaunchSimulator(Logger.silent("downsample"));
+        // A target above any mission's length keeps every sample: the full-resolution reference.
+        try (TrajectoryExporter fullExport = new TrajectoryExporter(FULL_RESOLUTION, full);
+             TrajectoryExporter fullBinExport = new TrajectoryExporter(FULL_RESOLUTION, fullBin);
+             TrajectoryExporter csvExport = new TrajectoryExporter(points, csv);
+             TrajectoryExporter binExport = new TrajectoryExporter(points, bin)) {
+            for (int m = 0; m < missions; m++) {
+                String label = "seed-" + m;
+                fullExport.startMission(label);
+                fullBinExport.startMission(label);
+                csvExport.startMission(label);
+                binExport.startMission(label);
+                simulator.reset(MissionRunner.mix(m));
+                simulator.initiatePreLaunchChecks();
+                if (!simulator.isChecksComplete()) continue;
+                simulator.beginAscent();
+                Rocket rocket = simulator.getRocket();
+                while (true) {
+                    fullExport.record(rocket);
+                    fullBinExport.record(rocket);
+                    csvExport.record(rocket);
+                    binExport.record(rocket);
+                    if (!simulator.isMissionActive()) break;
+                    simulator.advanceSimulation(1);
+                }
+            }
+        }
+        long samples = 0;
+        double worst = 0, sumWorst = 0;
+        int peaksKept = 0, series = 0;
+        List<TrajectoryExporter.Mission> reference = TrajectoryExporter.readBinary(fullBin);
+        List<TrajectoryExporter.Mission> reduced = TrajectoryExporter.readBinary(bin);
+        for (int m = 0; m < reference.size(); m++) {
+            for (int s = 0; s < reference.get(m).series.size(); s++) {
+                DownsampledSeries a = reference.get(m).series.get(s), b = reduced.get(m).series.get(s);
+                if (a.size() != a.getSourceSamples()) throw new IllegalStateException("Reference was downsampled: " + a);
+                double error = maxRelativeError(a, b);
+                worst = Math.max(worst, error);
+                sumWorst += error;
+                if (max(a) == max(b)) peaksKept++;
+                samples += a.size();
+                series++;
+            }
+        }
+        System.out.printf("%-22s %,12d bytes%n", "full resolution CSV", Files.size(full));
+        System.out.printf("%-22s %,12d bytes%n", "downsampled CSV", Files.size(csv));
+        System.out.printf("%-22s %,12d bytes  (%.1fx smaller than full CSV)%n", "downsampled binary", Files.size(bin),
+                (double) Files.size(full) / Files.size(bin));
+        System.out.printf("%,d series, %,d samples: worst gap %.2f%% of range (mean of per-series worst %.2f%%),"
+                + " peak kept in %d of %d%n", series, samples, 100 * worst, 100 * sumWorst / series, peaksKept, series);
+
+        longSeries(points * 10);
+        for (Path p : new Path[] {full, fullBin, csv, bin, dir}) Files.deleteIfExists(p);
+    }
+
+    private static double maxRelativeError(DownsampledSeries full, DownsampledSeries reduced) {
+        double lo = Double.MAX_VALUE, hi = -Double.MAX_VALUE, worst = 0;
+        for (int i = 0; i < full.size(); i++) {
+            lo = Math.min(lo, full.getValue(i));
+            hi = Math.max(hi, full.getValue(i));
+            worst = Math.max(worst, Math.abs(full.getValue(i) - reduced.interpolate(full.getTime(i))));
+        }
+        return hi > lo ? worst / (hi - lo) : 0;
+    }
+
+    private static double max(DownsampledSeries series) {
+        double max = -Double.MAX_VALUE;
+        for (int i = 0; i < series.size(); i++) max = Math.max(max, series.getValue(i));
+        return max;
+    }
+
+    private static void longSeries(int points) {
+        int n = 1_000_000;
+        int spikeAt = 654_321;
+        SeriesDownsampler downsampler = new SeriesDownsampler("synthetic", points);
+        for (int round = 0; round < 3; round++) { // The last round is timed.
+            downsampler.reset();
+            long start = System.nanoTime();
+            for (int t = 0; t < n; t++) {
+                double value = Math.sin(t / 20_000.0) + (t == spikeAt ? 5 : 0);
+                downsampler.add(t, value);
+            }
+            long nanos = System.nanoTime() - start;
+            if (round < 2) continue;
+            DownsampledSeries result = downsampler.points();
+            boolean spikeKept = false;
+            for (int i = 0; i < result.size(); i++) spikeKept |= result.getTime(i) == spikeAt;
+            System.out.printf("Long series: %,d samples -> %d points, %.1f ns/sample (incl. sin), spike %s%n",
+                    n, result.size(), (double) nanos / n, spikeKept ? "kept" : "LOST");
+        }
+    }
+}
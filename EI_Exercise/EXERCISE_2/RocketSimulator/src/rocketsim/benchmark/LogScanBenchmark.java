@@ -0,0 +1,133 @@
+package rocketsim.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import rocketsim.analysis.LogSummary;
+import rocketsim.analysis.MissionLogAnalyzer;
+
+/**
+ * Writes a synthetic mission log (both the global and the mission-scoped format) of the
+ * given size, then compares MissionLogAnalyzer at 1..cores threads with a line-by-line
+ * BufferedReader + regex scan. Event and failure counts must agree (exit code 1 otherwise).
+ * Usage: java rocketsim.benchmark.LogScanBenchmark [megabytes] [rounds]
+ */
+public class LogScanBenchmark {
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final Pattern LINE =
+            Pattern.compile("\\[([^\\]]{23})\\] (?:\\[[^\\]]*\\] (?=\\[[A-Z0-9_]+\\]))?\\[([^\\]]*)\\] ?(.*)");
+    private static final String[] REASONS = {
+        "Catastrophic Engine Flameout in Stage 1.",
+        "Stage 2 Mission Failed: Rocket became non-operational.",
+        "System Malfunction detected during pre-launch checks.",
+    };
+
+    public static void main(String[] args) throws Exception {
+        int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        Path file = Files.createTempFile("mission_log", ".txt");
+        try {
+            long lines = generate(file, megabytes * 1_000_000L);
+            System.out.printf("=== Mission log scan: %,d MB, %,d lines ===%n", Files.size(file) / 1_000_000, lines);
+
+            Map<String, Long> expectedEvents = new HashMap<>(), expectedReasons = new HashMap<>();
+            long start = System.nanoTime();
+            readerScan(file, expectedEvents, expectedReasons);
+            report("BufferedReader + regex", Files.size(file), System.nanoTime() - start);
+
+            boolean ok = true;
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; ; threads = Math.min(2 * threads, cores)) {
+                MissionLogAnalyzer analyzer = new MissionLogAnalyzer(threads, MissionLogAnalyzer.DEFAULT_CHUNK_BYTES, 3600);
+                LogSummary best = null;
+                for (int r = 0; r < rounds; r++) {
+                    LogSummary summary = analyzer.analyze(java.util.List.of(file));
+                    if (best == null || summary.getScanSeconds() < best.getScanSeconds()) best = summary;
+                }
+                report("mapped, " + threads + " thread(s)", best.getBytes(), (long) (best.getScanSeconds() * 1e9));
+                boolean same = best.getEventCounts().equals(expectedEvents)
+                        && best.getFailureReasons().equals(expectedReasons) && best.getMalformedLines() == 0;
+                if (!same) System.out.println("  counts differ from the reference scan");
+                ok &= same;
+                if (threads == cores) {
+                    System.out.println(best.report(5));
+                    break;
+                }
+            }
+            System.out.println(ok ? "Counts agree." : "Counts DIFFER.");
+            if (!ok) System.exit(1);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Missions alternate between the two formats; returns the number of lines written.
+    private static long generate(Path file, long bytes) throws Exception {
+        Random random = new Random(42);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 0, 0);
+        long lines = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long mission = 0, written = 0; written < bytes; mission++) {
+                String prefix = mission % 2 == 0 ? "" : "[mission-" + mission + "] ";
+                StringBuilder sb = new StringBuilder();
+                time = time.plusSeconds(1 + random.nextInt(120));
+                line(sb, time, prefix, "INIT", "Simulator and LEO Rocket Model initialized via MissionDirector.");
+                line(sb, time, prefix, "COMMAND", "start_checks received.");
+                line(sb, time, prefix, "COMMAND", "Initiating Pre-Launch Checks...");
+                int outcome = random.nextInt(10);
+                if (outcome == 0) {
+                    line(sb, time, prefix, "FAILURE", "MISSION FAILED: " + REASONS[2]);
+                } else {
+                    line(sb, time, prefix, "COMMAND", "launch received.");
+                    line(sb, time, prefix, "STATUS", "Launch initiated. Entering Stage 1.");
+                    for (int i = random.nextInt(4); i > 0; i--) {
+                        time = time.plusNanos(random.nextInt(1_000_000_000));
+                        line(sb, time, prefix, "COMMAND", "fast_forward " + (1 + random.nextInt(60)) + " received.");
+                    }
+                    line(sb, time, prefix, "STAGE_SEP", "Stage 1 complete. Separating stage. Entering Stage 2.");
+                    if (outcome < 4) line(sb, time, prefix, "FAILURE", "MISSION FAILED: " + REASONS[outcome % 2]);
+                    else line(sb, time, prefix, "SUCCESS", "Orbit achieved! Mission Successful.");
+                }
+                out.append(sb);
+                written += sb.length();
+                for (int i = 0; i < sb.length(); i++) if (sb.charAt(i) == '\n') lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static void line(StringBuilder sb, LocalDateTime time, String prefix, String event, String message) {
+        sb.append('[');
+        TIMESTAMP.formatTo(time, sb);
+        sb.append("] ").append(prefix).append('[').append(event).append("] ").append(message).append('\n');
+    }
+
+    // The straightforward way: a String, a regex match and substrings per line.
+    private static void readerScan(Path file, Map<String, Long> events, Map<String, Long> reasons) throws Exception {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                Matcher m = LINE.matcher(line);
+                if (!m.matches()) continue;
+                events.merge(m.group(2), 1L, Long::sum);
+                if (m.group(2).equals("FAILURE")) {
+                    String message = m.group(3);
+                    reasons.merge(message.startsWith("MISSION FAILED: ") ? message.substring(16) : message, 1L, Long::sum);
+                }
+            }
+        }
+    }
+
+    private static void report(String label, long bytes, long nanos) {
+        System.out.printf("%-24s %8.3f s  %6.2f GB/s%n", label, nanos / 1e9, bytes / (double) nanos);
+    }
+}
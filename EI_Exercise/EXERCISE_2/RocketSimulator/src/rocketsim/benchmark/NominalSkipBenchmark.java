@@ -0,0 +1,88 @@
+package rocketsim.benchmark;
+
+import java.util.Objects;
+import rocketsim.batch.MissionOutcome;
+import rocketsim.batch.MissionRunner;
+import rocketsim.batch.SimulatorPool;
+import rocketsim.core.NominalTrajectory;
+import rocketsim.director.MissionDirector;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * Compares MissionRunner with and without the failure-free fast-forward: first checks that
+ * every seed gives the identical outcome both ways (nominal and biased failure models), then
+ * times both over the same seeds. Exits with code 1 on any mismatch.
+ * Usage: java rocketsim.benchmark.NominalSkipBenchmark [missions] [rounds] [profile]
+ */
+public class NominalSkipBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int missions = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String profile = args.length > 2 ? args[2] : "leo";
+
+        SimulatorPool pool = new SimulatorPool(new MissionDirector().loadSpec(profile), Logger.silent("skip"), 1);
+        long start = System.nanoTime();
+        NominalTrajectory nominal = pool.getNominalTrajectory();
+        System.out.printf("=== Nominal fast-forward, profile %s: %,d missions x %d rounds ===%n", profile, missions, rounds);
+        System.out.printf("Table: %d ticks, %s, %,d bytes, computed in %.2f ms%n", nominal.getTicks(),
+                nominal.isEnded() ? "ends on the last tick" : "truncated", nominal.footprintBytes(),
+                (System.nanoTime() - start) / 1e6);
+
+        FailureModel[] models = {FailureModel.nominal(), FailureModel.parse("STAGE1_FLAMEOUT=0.01,STAGE2_FUEL_LEAK=0.02")};
+        long mismatches = 0;
+        for (FailureModel model : models) {
+            MissionRunner full = new MissionRunner(pool, model, false);
+            MissionRunner skipping = new MissionRunner(pool, model, true);
+            long failures = 0, differing = 0;
+            for (long seed = 0; seed < missions; seed++) {
+                MissionOutcome expected = full.run(seed);
+                MissionOutcome actual = skipping.run(seed);
+                if (!expected.isSuccess()) failures++;
+                if (!same(expected, actual) && differing++ < 5) {
+                    System.out.println("MISMATCH " + model + " seed " + seed);
+                }
+            }
+            mismatches += differing;
+            System.out.printf("Failure model %-45s %,d of %,d missions (%,d failed) identical both ways%n",
+                    model, missions - differing, missions, failures);
+        }
+
+        double fullNs = measure(new MissionRunner(pool, FailureModel.nominal(), false), missions, rounds);
+        double skipNs = measure(new MissionRunner(pool, FailureModel.nominal(), true), missions, rounds);
+        report("every tick", fullNs);
+        report("fast-forward", skipNs);
+        System.out.printf("Speed-up %.1fx%n", fullNs / skipNs);
+        if (mismatches > 0) {
+            System.out.println(mismatches + " outcomes differ.");
+            System.exit(1);
+        }
+    }
+
+    private static boolean same(MissionOutcome a, MissionOutcome b) {
+        return a.isSuccess() == b.isSuccess()
+                && Objects.equals(a.getFailureReason(), b.getFailureReason())
+                && a.getEndTimeSeconds() == b.getEndTimeSeconds()
+                && Double.compare(a.getPeakAltitudeKm(), b.getPeakAltitudeKm()) == 0
+                && Double.compare(a.getFuelPercent(), b.getFuelPercent()) == 0
+                && a.isFuelLeak() == b.isFuelLeak()
+                && Double.compare(a.getWeight(), b.getWeight()) == 0;
+    }
+
+    // Best mean time per mission over 'rounds' passes of the same seeds, after one warm-up pass.
+    private static double measure(MissionRunner runner, int missions, int rounds) {
+        long sink = 0;
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r <= rounds; r++) {
+            long start = System.nanoTime();
+            for (long seed = 0; seed < missions; seed++) sink += runner.run(seed).getEndTimeSeconds();
+            if (r > 0) best = Math.min(best, System.nanoTime() - start);
+        }
+        return sink == 42 ? 0 : (double) best / missions;
+    }
+
+    private static void report(String label, double nsPerMission) {
+        System.out.printf("%-14s %10.2f us/mission  %,12.0f missions/s%n", label, nsPerMission / 1e3, 1e9 / nsPerMission);
+    }
+}
@@ -0,0 +1,161 @@
+package rocketsim.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import rocketsim.batch.ConcurrentQuantileSketch;
+import rocketsim.batch.MissionOutcome;
+import rocketsim.batch.MissionRunner;
+import rocketsim.batch.QuantileSketch;
+import rocketsim.util.Logger;
+
+/**
+ * Checks QuantileSketch against exact sorting on two reference datasets:
+ *  - outcomes of real missions, sketched per thread and merged lock-free into shared sketches;
+ *  - a log-normal sample spanning several orders of magnitude.
+ * For each quantile it prints the exact value, the estimate and the relative error, and
+ * fails (exit code 1) if any error exceeds the sketch's documented bound.
+ * Usage: java -cp <classes+profiles> rocketsim.benchmark.SketchAccuracyReport [missions] [samples]
+ */
+public class SketchAccuracyReport {
+    private static final double[] QUANTILES = {0.0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999, 1.0};
+    private static final double ALPHA = QuantileSketch.DEFAULT_RELATIVE_ACCURACY;
+
+    // One metric: exact values (reference only) plus the shared sketch threads merge into.
+    private static final class Metric {
+        final String name;
+        final ConcurrentQuantileSketch shared = new ConcurrentQuantileSketch(ALPHA, 1e9);
+        final List<double[]> parts = new ArrayList<>();
+
+        Metric(String name) { this.name = name; }
+
+        synchronized void addExact(double[] values) { parts.add(values); }
+
+        double[] exact() {
+            return parts.stream().flatMapToDouble(Arrays::stream).sorted().toArray();
+        }
+    }
+
+    private boolean ok = true;
+
+    public static void main(String[] args) throws Exception {
+        int missions = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+        SketchAccuracyReport report = new SketchAccuracyReport();
+        report.missionMetrics(missions);
+        report.logNormal(samples);
+        System.out.println(report.ok ? "All estimates within bounds." : "Some estimates are OUT OF BOUNDS.");
+        System.exit(report.ok ? 0 : 1);
+    }
+
+    private void missionMetrics(int missions) throws Exception {
+        Metric timeToOrbit = new Metric("time to orbit (s)");
+        Metric peakAltitude = new Metric("peak altitude (km)");
+        Metric fuelAtInsertion = new Metric("fuel at insertion (%)");
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> work = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long from = (long) missions * t / threads;
+                long to = (long) missions * (t + 1) / threads;
+                work.add(pool.submit(() -> {
+                    MissionRunner runner = new MissionRunner(Logger.silent("sketch"));
+                    QuantileSketch orbit = new QuantileSketch(ALPHA);
+                    QuantileSketch peak = new QuantileSketch(ALPHA);
+                    QuantileSketch fuel = new QuantileSketch(ALPHA);
+                    double[] orbitExact = new double[(int) (to - from)];
+                    double[] peakExact = new double[(int) (to - from)];
+                    double[] fuelExact = new double[(int) (to - from)];
+                    int successes = 0;
+                    for (long seed = from; seed < to; seed++) {
+                        MissionOutcome outcome = runner.run(seed);
+                        peak.add(outcome.getPeakAltitudeKm());
+                        peakExact[(int) (seed - from)] = outcome.getPeakAltitudeKm();
+                        if (outcome.isSuccess()) {
+                            orbit.add(outcome.getEndTimeSeconds());
+                            fuel.add(outcome.getFuelPercent());
+                            orbitExact[successes] = outcome.getEndTimeSeconds();
+                            fuelExact[successes++] = outcome.getFuelPercent();
+                        }
+                    }
+                    timeToOrbit.shared.merge(orbit);
+                    peakAltitude.shared.merge(peak);
+                    fuelAtInsertion.shared.merge(fuel);
+                    timeToOrbit.addExact(Arrays.copyOf(orbitExact, successes));
+                    peakAltitude.addExact(peakExact);
+                    fuelAtInsertion.addExact(Arrays.copyOf(fuelExact, successes));
+                    return null;
+                }));
+            }
+            for (Future<?> f : work) f.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.printf("=== %,d missions, %d threads merged lock-free ===%n", missions, threads);
+        for (Metric metric : List.of(timeToOrbit, peakAltitude, fuelAtInsertion)) {
+            compare(metric.name, metric.exact(), metric.shared.snapshot());
+        }
+    }
+
+    private void logNormal(int samples) throws IOException {
+        Random random = new Random(42);
+        QuantileSketch sketch = new QuantileSketch(ALPHA);
+        double[] exact = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            exact[i] = Math.exp(2.0 + 2.5 * random.nextGaussian());
+            sketch.add(exact[i]);
+        }
+        Arrays.sort(exact);
+        System.out.printf("=== log-normal sample, %,d values from %.3g to %.3g ===%n",
+                samples, exact[0], exact[samples - 1]);
+        compare("log-normal", exact, sketch);
+    }
+
+    private void compare(String name, double[] sortedExact, QuantileSketch sketch) throws IOException {
+        QuantileSketch restored = roundTrip(sketch);
+        int bytes = serializedSize(sketch);
+        System.out.printf("%s: n=%,d, sketch %,d bytes serialized vs %,d bytes of raw values%n",
+                name, sortedExact.length, bytes, 8L * sortedExact.length);
+        if (sortedExact.length == 0) return;
+        for (double q : QUANTILES) {
+            double exact = sortedExact[(int) (q * (sortedExact.length - 1))];
+            double estimate = restored.quantile(q);
+            boolean within;
+            double error;
+            if (exact < QuantileSketch.MIN_TRACKED_VALUE) {
+                error = Math.abs(estimate - exact);
+                within = error <= QuantileSketch.MIN_TRACKED_VALUE;
+            } else {
+                error = Math.abs(estimate - exact) / exact;
+                within = error <= ALPHA + 1e-12;
+            }
+            if (estimate != sketch.quantile(q)) within = false; // Serialization must be lossless.
+            ok &= within;
+            System.out.printf("  q=%-6s exact=%-14.6g estimate=%-14.6g error=%.5f%s%n",
+                    q, exact, estimate, error, within ? "" : "  <-- out of bounds");
+        }
+    }
+
+    private static QuantileSketch roundTrip(QuantileSketch sketch) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(buffer));
+        return QuantileSketch.readFrom(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+    }
+
+    private static int serializedSize(QuantileSketch sketch) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(buffer));
+        return buffer.size();
+    }
+}
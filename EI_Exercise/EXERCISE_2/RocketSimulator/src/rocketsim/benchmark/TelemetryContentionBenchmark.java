@@ -0,0 +1,112 @@
+package rocketsim.benchmark;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import rocketsim.model.TelemetrySeqlock;
+import rocketsim.model.TelemetrySnapshot;
+
+/**
+ * Compares three ways for many reader threads to observe the tick thread's state:
+ * unsynchronized fields (how Rocket's getters behaved), a shared monitor, and TelemetrySeqlock.
+ * The writer publishes ticks where speed = 2 * altitude and fuel = 3 * altitude, so any
+ * reader that sees a mix of two ticks is counted as a torn read.
+ * Usage: java rocketsim.benchmark.TelemetryContentionBenchmark [readers] [seconds]
+ */
+public class TelemetryContentionBenchmark {
+
+    private interface Channel {
+        void write(long tick);
+        /** @return true if the observed values belong to one tick. */
+        boolean readConsistent();
+    }
+
+    private static final class PlainChannel implements Channel {
+        private double altitude, speed, fuel;
+
+        public void write(long tick) {
+            altitude = tick;
+            speed = 2.0 * tick;
+            fuel = 3.0 * tick;
+        }
+
+        public boolean readConsistent() {
+            double a = altitude, s = speed, f = fuel;
+            return s == 2.0 * a && f == 3.0 * a;
+        }
+    }
+
+    private static final class LockedChannel implements Channel {
+        private double altitude, speed, fuel;
+
+        public synchronized void write(long tick) {
+            altitude = tick;
+            speed = 2.0 * tick;
+            fuel = 3.0 * tick;
+        }
+
+        public synchronized boolean readConsistent() {
+            return speed == 2.0 * altitude && fuel == 3.0 * altitude;
+        }
+    }
+
+    private static final class SeqlockChannel implements Channel {
+        private final TelemetrySeqlock seqlock = new TelemetrySeqlock();
+        private final ThreadLocal<TelemetrySnapshot> holder = ThreadLocal.withInitial(TelemetrySnapshot::new);
+
+        public void write(long tick) {
+            seqlock.publish(tick, 2.0 * tick, 3.0 * tick, 0.0, 1, (int) tick, true, false);
+        }
+
+        public boolean readConsistent() {
+            TelemetrySnapshot s = seqlock.read(holder.get());
+            return s.getSpeedMs() == 2.0 * s.getAltitudeM() && s.getCurrentFuelKg() == 3.0 * s.getAltitudeM();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int readers = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        System.out.printf("=== Telemetry publication: 1 writer, %d readers, %ds ===%n", readers, seconds);
+
+        Channel[] channels = {new PlainChannel(), new LockedChannel(), new SeqlockChannel()};
+        for (Channel c : channels) run(c, readers, 1, false); // Warm-up.
+        for (Channel c : channels) run(c, readers, seconds, true);
+    }
+
+    private static void run(Channel channel, int readers, int seconds, boolean report) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        LongAdder torn = new LongAdder();
+        long[] writes = new long[1];
+
+        Thread writer = new Thread(() -> {
+            long tick = 0;
+            while (running.get()) channel.write(++tick);
+            writes[0] = tick;
+        });
+        Thread[] readerThreads = new Thread[readers];
+        for (int i = 0; i < readers; i++) {
+            readerThreads[i] = new Thread(() -> {
+                long n = 0, bad = 0;
+                while (running.get()) {
+                    if (!channel.readConsistent()) bad++;
+                    n++;
+                }
+                reads.add(n);
+                torn.add(bad);
+            });
+        }
+
+        writer.start();
+        for (Thread t : readerThreads) t.start();
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        writer.join();
+        for (Thread t : readerThreads) t.join();
+
+        if (report) {
+            System.out.printf("%-15s writes: %,13d/s   reads: %,14d/s   torn reads: %,d%n",
+                    channel.getClass().getSimpleName(), writes[0] / seconds, reads.sum() / seconds, torn.sum());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package rocketsim.benchmark;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.telemetry.TelemetryBroadcaster;
+import rocketsim.util.Logger;
+
+/**
+ * Measures what live subscribers cost the tick thread. Missions are flown with a fixed
+ * pause between ticks, first without a broadcaster, then with one serving 'clients'
+ * reading subscribers plus 'stalled' ones that never read (and must be dropped).
+ * Usage: java rocketsim.benchmark.TelemetryFanoutBenchmark [clients] [stalled] [tickMicros] [missions]
+ */
+public class TelemetryFanoutBenchmark {
+
+    // Reads frames as fast as it can and checks they arrive in increasing order.
+    private static final class Reader implements Runnable {
+        final SocketChannel channel;
+        long frames;
+        long outOfOrder;
+
+        Reader(SocketChannel channel) { this.channel = channel; }
+
+        @Override
+        public void run() {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            StringBuilder line = new StringBuilder();
+            long lastSeq = 0;
+            try {
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        char c = (char) buffer.get();
+                        if (c != '\n') {
+                            line.append(c);
+                            continue;
+                        }
+                        int start = line.indexOf(":") + 1;
+                        long seq = Long.parseLong(line.substring(start, line.indexOf(",", start)));
+                        if (seq <= lastSeq) outOfOrder++;
+                        lastSeq = seq;
+                        frames++;
+                        line.setLength(0);
+                    }
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                // Closed by the benchmark.
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int stalled = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        long tickMicros = args.length > 2 ? Long.parseLong(args[2]) : 500;
+        int missions = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        System.out.printf("=== Telemetry fan-out: %d readers, %d stalled, one tick per %d us, %d missions ===%n",
+                clients, stalled, tickMicros, missions);
+
+        RocketLaunchSimulator simulator = new RocketLaunchSimulator(Logger.silent("fanout"));
+        fly("no observers", simulator, 20, tickMicros, false); // Warm-up.
+        fly("no observers", simulator, missions, tickMicros, true);
+
+        RocketLaunchSimulator broadcasting = new RocketLaunchSimulator(Logger.silent("fanout"));
+        try (TelemetryBroadcaster broadcaster = new TelemetryBroadcaster(broadcasting, 0, 500)) {
+            broadcasting.addObserver(broadcaster);
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), broadcaster.getPort());
+
+            List<Reader> readers = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            List<SocketChannel> idle = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Reader reader = new Reader(SocketChannel.open(address));
+                Thread thread = new Thread(reader, "reader-" + i);
+                thread.setDaemon(true);
+                thread.start();
+                readers.add(reader);
+                threads.add(thread);
+            }
+            for (int i = 0; i < stalled; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, 1024);
+                channel.connect(address);
+                idle.add(channel);
+            }
+            while (broadcaster.getMetrics().accepted < clients + stalled) Thread.sleep(10);
+
+            fly("broadcasting", broadcasting, 20, tickMicros, false);
+            fly("broadcasting", broadcasting, missions, tickMicros, true);
+            Thread.sleep(200); // Let the readers catch up with the last frame.
+            TelemetryBroadcaster.Metrics metrics = broadcaster.getMetrics();
+
+            long frames = 0, outOfOrder = 0, fewest = Long.MAX_VALUE;
+            for (Reader reader : readers) {
+                reader.channel.close();
+                frames += reader.frames;
+                outOfOrder += reader.outOfOrder;
+                fewest = Math.min(fewest, reader.frames);
+            }
+            for (Thread thread : threads) thread.join();
+            for (SocketChannel channel : idle) channel.close();
+            System.out.println("Broadcaster: " + metrics);
+            System.out.printf("Readers: %,d frames received (fewest per reader %,d of %,d), %d out of order%n",
+                    frames, clients == 0 ? 0 : fewest, metrics.framesPublished, outOfOrder);
+        }
+    }
+
+    // Flies 'missions' seeded missions, pausing between ticks, and reports the cost of the ticks alone.
+    private static void fly(String label, RocketLaunchSimulator simulator, int missions, long tickMicros,
+                            boolean report) {
+        long ticks = 0, tickNanos = 0, worst = 0;
+        for (int m = 0; m < missions; m++) {
+            simulator.reset(m);
+            simulator.initiatePreLaunchChecks();
+            if (!simulator.isChecksComplete()) continue;
+            simulator.beginAscent();
+            while (simulator.isMissionActive()) {
+                long start = System.nanoTime();
+                simulator.advanceSimulation(1);
+                long elapsed = System.nanoTime() - start;
+                ticks++;
+                tickNanos += elapsed;
+                worst = Math.max(worst, elapsed);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(tickMicros));
+            }
+        }
+        if (report) {
+            System.out.printf("%-14s %,8d ticks  %8.2f us/tick mean  %8.1f us worst%n",
+                    label, ticks,
+                    ticks == 0 ? 0 : tickNanos / 1e3 / ticks, worst / 1e3);
+        }
+    }
+}
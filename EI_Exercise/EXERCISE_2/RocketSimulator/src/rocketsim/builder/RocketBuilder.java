@@ -1,6 +1,9 @@
 package rocketsim.builder;
 
 import rocketsim.model.Rocket;
+import rocketsim.model.RocketSpec;
+import rocketsim.strategy.ConstantPropulsion;
+import rocketsim.strategy.PropulsionStrategy;
 
 /**
  * Implements the Builder pattern for the Rocket object.
@@ -17,6 +20,8 @@ public class RocketBuilder {
     private double maxOrbitalSpeedKmh;
     private double maxAltitudeKm;
     private double stageSeparationAltitudeM;
+    private PropulsionStrategy stage1Propulsion;
+    private PropulsionStrategy stage2Propulsion;
 
     public RocketBuilder setInitialMassKg(double initialMassKg) {
         this.initialMassKg = initialMassKg;
@@ -68,11 +73,35 @@ public class RocketBuilder {
         return this;
     }
 
+    /**
+     * Optional: replaces the constant stage 1 thrust/burn rate with a custom strategy.
+     */
+    public RocketBuilder setStage1Propulsion(PropulsionStrategy stage1Propulsion) {
+        this.stage1Propulsion = stage1Propulsion;
+        return this;
+    }
+
+    /**
+     * Optional: replaces the constant stage 2 thrust/burn rate with a custom strategy.
+     */
+    public RocketBuilder setStage2Propulsion(PropulsionStrategy stage2Propulsion) {
+        this.stage2Propulsion = stage2Propulsion;
+        return this;
+    }
+
     /**
      * Constructs and returns the final Rocket object after validating parameters.
      * @throws IllegalStateException if any of the required parameters are invalid.
      */
     public Rocket build() {
+        return new Rocket(buildSpec());
+    }
+
+    /**
+     * Validates the parameters and returns the immutable spec that rockets are built and reset from.
+     * @throws IllegalStateException if any of the required parameters are invalid.
+     */
+    public RocketSpec buildSpec() {
         // --- ADDED: Validation Logic ---
         if (initialMassKg <= 0) {
             throw new IllegalStateException("Initial mass must be positive.");
@@ -94,8 +123,13 @@ public class RocketBuilder {
         }
         // --- End of Validation ---
 
-        return new Rocket(initialMassKg, fuelMassKg, stage1ThrustN, stage2ThrustN, burnRateKgS, 
-                          stage2BurnRateKgS, maxOrbitalSpeedKmh, maxAltitudeKm, stage1DryMassKg, stageSeparationAltitudeM);
+        PropulsionStrategy stage1 = stage1Propulsion != null
+                ? stage1Propulsion : new ConstantPropulsion(stage1ThrustN, burnRateKgS);
+        PropulsionStrategy stage2 = stage2Propulsion != null
+                ? stage2Propulsion : new ConstantPropulsion(stage2ThrustN, stage2BurnRateKgS);
+
+        return new RocketSpec(initialMassKg, fuelMassKg, stage1, stage2, maxOrbitalSpeedKmh, maxAltitudeKm,
+                              stage1DryMassKg, stageSeparationAltitudeM);
     }
 }
 
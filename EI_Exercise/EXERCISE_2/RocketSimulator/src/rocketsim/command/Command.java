@@ -2,6 +2,7 @@ package rocketsim.command;
 
 import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.exception.MissionControlException;
+import rocketsim.jfr.CommandEvent;
 
 /**
  * Interface for the Command Pattern.
@@ -14,4 +15,29 @@ public interface Command {
      * @throws MissionControlException For semantic errors (e.g., launching before checks).
      */
     void execute(RocketLaunchSimulator simulator) throws MissionControlException;
+
+    /**
+     * Executes 'command' and records it as a CommandEvent for Flight Recorder.
+     * Use this instead of calling execute directly so commands show up in recordings.
+     */
+    static void run(Command command, RocketLaunchSimulator simulator) throws MissionControlException {
+        CommandEvent event = CommandEvent.enabled() ? new CommandEvent() : null;
+        if (event != null) event.begin();
+        try {
+            command.execute(simulator);
+        } catch (MissionControlException e) {
+            if (event != null) event.error = e.getMessage();
+            throw e;
+        } finally {
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.missionId = simulator.getLogger().getMissionId();
+                    event.command = command.getClass().getSimpleName();
+                    event.tick = simulator.getRocket().getTimeElapsedSeconds();
+                    event.commit();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package rocketsim.command;
+
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.model.TelemetrySnapshot;
+
+/**
+ * Rocket state as commands see it. Commands run on the console thread while the simulation
+ * thread may be ticking, so they read through the rocket's seqlock (Rocket.readTelemetry)
+ * into a holder reused per thread, never through the plain getters.
+ */
+final class CommandTelemetry {
+    private static final ThreadLocal<TelemetrySnapshot> SNAPSHOT = ThreadLocal.withInitial(TelemetrySnapshot::new);
+
+    private CommandTelemetry() {}
+
+    /** The latest published tick; valid until this thread's next read. */
+    static TelemetrySnapshot read(RocketLaunchSimulator simulator) {
+        return simulator.getRocket().readTelemetry(SNAPSHOT.get());
+    }
+}
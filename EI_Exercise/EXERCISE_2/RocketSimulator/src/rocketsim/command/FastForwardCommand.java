@@ -2,7 +2,6 @@ package rocketsim.command;
 
 import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.exception.MissionControlException;
-import rocketsim.util.Logger;
 
 /**
  * Concrete Command for fast-forwarding the simulation.
@@ -18,9 +17,9 @@ public class FastForwardCommand implements Command {
 
     @Override
     public void execute(RocketLaunchSimulator simulator) throws MissionControlException {
-        Logger.getInstance().log("COMMAND", String.format("fast_forward %d received.", seconds));
+        simulator.getLogger().log("COMMAND", String.format("fast_forward %d received.", seconds));
         
-        if (simulator.getRocket().getCurrentStage() == 0) {
+        if (CommandTelemetry.read(simulator).getCurrentStage() == 0) {
             throw new MissionControlException("Cannot fast_forward before launch.");
         }
         if (seconds <= 0) {
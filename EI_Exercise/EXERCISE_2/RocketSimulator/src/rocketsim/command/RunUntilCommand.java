@@ -0,0 +1,58 @@
+package rocketsim.command;
+
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.core.StopCondition;
+import rocketsim.exception.MissionControlException;
+import rocketsim.model.TelemetrySnapshot;
+
+/**
+ * Concrete Command that advances the simulation until an event or condition is reached,
+ * e.g. 'run_until stage_sep' or 'run_until altitude>120'. The condition is compiled when
+ * the command is created and only the final status is shown.
+ */
+public class RunUntilCommand implements Command {
+    // Same cap as a batch mission; a condition that is never met cannot hang the console.
+    public static final int DEFAULT_MAX_SECONDS = 100_000;
+
+    private final StopCondition condition;
+    private final int maxSeconds;
+
+    public RunUntilCommand(String condition) throws MissionControlException {
+        this(compile(condition), DEFAULT_MAX_SECONDS);
+    }
+
+    public RunUntilCommand(StopCondition condition, int maxSeconds) {
+        this.condition = condition;
+        this.maxSeconds = maxSeconds;
+    }
+
+    private static StopCondition compile(String condition) throws MissionControlException {
+        try {
+            return StopCondition.compile(condition);
+        } catch (IllegalArgumentException e) {
+            throw new MissionControlException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void execute(RocketLaunchSimulator simulator) throws MissionControlException {
+        simulator.getLogger().log("COMMAND", String.format("run_until %s received.", condition));
+
+        TelemetrySnapshot telemetry = CommandTelemetry.read(simulator);
+        if (telemetry.getCurrentStage() == 0) {
+            throw new MissionControlException("Cannot run_until before launch.");
+        }
+        if (!telemetry.isMissionActive()) {
+            throw new MissionControlException("Mission has already ended.");
+        }
+
+        int seconds = simulator.advanceUntil(condition, maxSeconds);
+        boolean reached = condition.isMet(simulator);
+        int elapsed = CommandTelemetry.read(simulator).getTimeElapsedSeconds();
+        String result = reached
+                ? String.format("run_until %s: reached after %d s (T+%d s).", condition, seconds, elapsed)
+                : String.format("run_until %s: not reached; stopped after %d s (T+%d s).", condition, seconds, elapsed);
+        simulator.getLogger().log("STATUS", result);
+        simulator.postCustomMessage(result);
+    }
+}
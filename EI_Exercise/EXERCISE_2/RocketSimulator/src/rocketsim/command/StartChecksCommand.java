@@ -2,7 +2,6 @@ package rocketsim.command;
 
 import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.exception.MissionControlException;
-import rocketsim.util.Logger;
 
 /**
  * Concrete Command for initiating pre-launch checks.
@@ -10,7 +9,7 @@ import rocketsim.util.Logger;
 public class StartChecksCommand implements Command {
     @Override
     public void execute(RocketLaunchSimulator simulator) throws MissionControlException {
-        Logger.getInstance().log("COMMAND", "start_checks received.");
+        simulator.getLogger().log("COMMAND", "start_checks received.");
 
         if (simulator.isChecksComplete()) {
             throw new MissionControlException("Checks already completed. Type 'launch' to proceed.");
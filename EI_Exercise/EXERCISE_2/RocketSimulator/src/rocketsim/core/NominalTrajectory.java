@@ -0,0 +1,111 @@
+package rocketsim.core;
+
+import java.util.Arrays;
+import rocketsim.model.RocketSpec;
+import rocketsim.state.FailureMode;
+import rocketsim.state.FailureModel;
+import rocketsim.util.Logger;
+
+/**
+ * The failure-free ascent of one vehicle spec, tabulated once per tick in flat primitive
+ * arrays. Until its first failure draw comes up true every mission of that spec flies exactly
+ * this trajectory, so RocketLaunchSimulator.fastForwardNominal can take the mission's draws
+ * against the table and resume the rocket at the tick where it diverges instead of
+ * simulating the ascent up to there. Immutable and shareable between threads.
+ */
+public final class NominalTrajectory {
+    private static final int FIELDS = 5; // Mass, fuel, altitude, speed, thrust (Rocket.saveKinematics).
+    private static final FailureMode[] MODES = FailureMode.values();
+
+    private final RocketSpec spec;
+    private final int ticks;
+    private final boolean ended;
+    private final int separationTick; // Tick that separated the stages, or ticks + 1 if none did.
+    private final double[] rows;      // FIELDS values per row; row k is the rocket after k ticks.
+    private final byte[] draws;       // Failure mode drawn during tick k, as ordinal + 1; 0 if none.
+    private final double[] peakAltitudeM; // Highest altitude over rows 0..k.
+
+    private NominalTrajectory(RocketSpec spec, int ticks, boolean ended, int separationTick, double[] rows,
+                              byte[] draws, double[] peakAltitudeM) {
+        this.spec = spec;
+        this.ticks = ticks;
+        this.ended = ended;
+        this.separationTick = separationTick;
+        this.rows = rows;
+        this.draws = draws;
+        this.peakAltitudeM = peakAltitudeM;
+    }
+
+    /**
+     * Flies 'spec' once with failures disabled, through the real states, for at most 'maxTicks' ticks.
+     * @throws IllegalStateException If a state takes more than one failure draw in a tick.
+     */
+    public static NominalTrajectory compute(RocketSpec spec, int maxTicks) {
+        if (maxTicks < 0) throw new IllegalArgumentException("maxTicks must not be negative.");
+        RocketLaunchSimulator simulator = new RocketLaunchSimulator(Logger.silent("nominal"), spec);
+        simulator.setFailureModel(FailureModel.none());
+        simulator.initiatePreLaunchChecks();
+        simulator.beginAscent();
+
+        double[] rows = new double[FIELDS * 256];
+        byte[] draws = new byte[256];
+        double[] peak = new double[256];
+        simulator.getRocket().saveKinematics(rows, 0);
+        int separationTick = -1;
+        int tick = 0;
+        while (tick < maxTicks && simulator.isMissionActive()) {
+            tick++;
+            if (tick == draws.length) {
+                rows = Arrays.copyOf(rows, 2 * rows.length);
+                draws = Arrays.copyOf(draws, 2 * draws.length);
+                peak = Arrays.copyOf(peak, 2 * peak.length);
+            }
+            long before = simulator.drawCount;
+            simulator.advanceSimulation(1);
+            long taken = simulator.drawCount - before;
+            if (taken > 1) {
+                throw new IllegalStateException("Tick " + tick + " took " + taken
+                        + " failure draws; the nominal table supports at most one per tick.");
+            }
+            draws[tick] = taken == 1 ? (byte) (simulator.lastDrawMode.ordinal() + 1) : 0;
+            simulator.getRocket().saveKinematics(rows, FIELDS * tick);
+            if (separationTick < 0 && simulator.getRocket().getCurrentStage() == 2) separationTick = tick;
+            peak[tick] = Math.max(peak[tick - 1], rows[FIELDS * tick + 2]);
+        }
+        if (separationTick < 0) separationTick = tick + 1;
+        return new NominalTrajectory(spec, tick, !simulator.isMissionActive(), separationTick,
+                Arrays.copyOf(rows, FIELDS * (tick + 1)), Arrays.copyOf(draws, tick + 1),
+                Arrays.copyOf(peak, tick + 1));
+    }
+
+    public RocketSpec getSpec() { return spec; }
+
+    /** Ticks tabulated. */
+    public int getTicks() { return ticks; }
+
+    /** True if the failure-free mission ends (orbit or out of fuel) on the last tick. */
+    public boolean isEnded() { return ended; }
+
+    /** Failure mode the states draw during 'tick' (1-based), or null if they draw none. */
+    public FailureMode drawAt(int tick) {
+        int d = draws[tick];
+        return d == 0 ? null : MODES[d - 1];
+    }
+
+    /** Highest altitude reached in the first 'tick' ticks. */
+    public double getPeakAltitudeKm(int tick) {
+        return peakAltitudeM[tick] / 1000.0;
+    }
+
+    /** Sets 'simulator' up as the failure-free flight after 'tick' ticks: rocket and ascent state. */
+    void restore(RocketLaunchSimulator simulator, int tick) {
+        int stage = tick >= separationTick ? 2 : 1;
+        simulator.getRocket().restoreNominal(rows, FIELDS * tick, tick, stage, stage == 2 ? separationTick : 0);
+        simulator.setState(stage == 2 ? simulator.getAscentStage2State() : simulator.getAscentStage1State());
+    }
+
+    /** Bytes held by the table. */
+    public long footprintBytes() {
+        return 8L * rows.length + draws.length + 8L * peakAltitudeM.length;
+    }
+}
@@ -2,16 +2,33 @@ package rocketsim.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import rocketsim.director.MissionDirector;
 import rocketsim.exception.ProfileLoadException;
+import rocketsim.jfr.MissionFailureEvent;
+import rocketsim.jfr.StateTransitionEvent;
+import rocketsim.jfr.TickEvent;
 import rocketsim.model.Rocket;
+import rocketsim.model.RocketSpec;
+import rocketsim.state.AscentStage1;
+import rocketsim.state.AscentStage2;
+import rocketsim.state.FailureMode;
+import rocketsim.state.FailureModel;
 import rocketsim.state.PreLaunch;
 import rocketsim.state.RocketState;
 import rocketsim.util.Logger;
 
 public class RocketLaunchSimulator {
-    private Rocket rocket;
+    private static final AtomicInteger MISSION_SEQUENCE = new AtomicInteger();
+
+    private final Rocket rocket;
     private RocketState currentState;
+
+    // The phases hold no per-mission data, so one instance of each serves every mission and reset.
+    private final RocketState preLaunch = new PreLaunch();
+    private final RocketState ascentStage1 = new AscentStage1();
+    private final RocketState ascentStage2 = new AscentStage2();
     private boolean checksComplete;
 
     // Track last failure reason and if failure reported
@@ -22,44 +39,216 @@ public class RocketLaunchSimulator {
     private String lastStatusSent = "";
 
     private final List<MissionStatusObserver> observers = new ArrayList<>();
+    private final List<TickListener> tickListeners = new ArrayList<>();
+    private final Logger logger;
 
+    // Drives every failure check of this mission's states; reseed for reproducible runs.
+    private final Random random = new Random();
+    private FailureModel failureModel = FailureModel.nominal();
+    // Product of nominal/sampling probability ratios of every failure draw so far (1 when nominal).
+    private double likelihoodRatio = 1.0;
+    // Draw already taken by fastForwardNominal for the tick it resumes before; replayed by sampleFailure.
+    private FailureMode replayMode;
+    private boolean replayFailed;
+    // Read by NominalTrajectory to see which failure draws a tick takes.
+    long drawCount;
+    FailureMode lastDrawMode;
+
+    /**
+     * Logs to mission_log.txt, tagged with an id unique within this process (mission-1,
+     * mission-2, ...); the file is appended to, so earlier runs stay in it.
+     */
     public RocketLaunchSimulator() {
+        this(Logger.forMission("mission-" + MISSION_SEQUENCE.incrementAndGet(), Logger.getInstance().getLogPath()));
+    }
+
+    /**
+     * @param logger Mission-scoped logger (see Logger.forMission) used by this simulator,
+     *               its rocket, states and commands.
+     */
+    public RocketLaunchSimulator(Logger logger) {
+        this(logger, leoSpec(), "Simulator and LEO Rocket Model initialized via MissionDirector.");
+    }
+
+    /**
+     * @param spec Vehicle to fly, e.g. from MissionDirector.loadSpec; also what reset() restores.
+     */
+    public RocketLaunchSimulator(Logger logger, RocketSpec spec) {
+        this(logger, spec, "Simulator and Rocket Model initialized from spec.");
+    }
+
+    private RocketLaunchSimulator(Logger logger, RocketSpec spec, String initMessage) {
+        this.logger = logger;
+        this.rocket = new Rocket(spec);
+        this.rocket.setLogger(logger);
+
+        this.currentState = preLaunch;
+        this.checksComplete = false;
+        this.missionFailureReported = false;
+        this.lastStatusSent = "";
+        logger.log("INIT", initMessage);
+    }
+
+    private static RocketSpec leoSpec() {
         try {
-            MissionDirector director = new MissionDirector();
-            this.rocket = director.buildRocket("leo");
+            return new MissionDirector().loadSpec("leo");
         } catch (ProfileLoadException e) {
             throw new IllegalStateException("Failed to build rocket from profile: " + e.getMessage(), e);
         }
+    }
 
-        this.currentState = new PreLaunch();
-        this.checksComplete = false;
-        this.missionFailureReported = false;
-        this.lastStatusSent = "";
-        Logger.getInstance().log("INIT", "Simulator and LEO Rocket Model initialized via MissionDirector.");
+    /**
+     * Returns the simulator to its just-constructed state for another mission, in place:
+     * rocket back on the pad from its spec, pre-launch state, failure bookkeeping cleared.
+     * Logger, observers and failure model are kept; the random source carries on.
+     * Allocates nothing (unless the logger writes the INIT event).
+     */
+    public synchronized void reset() {
+        rocket.reset();
+        setState(preLaunch);
+        checksComplete = false;
+        lastFailureReason = null;
+        missionFailureReported = false;
+        lastStatusSent = "";
+        likelihoodRatio = 1.0;
+        replayMode = null;
+        for (int i = 0; i < tickListeners.size(); i++) tickListeners.get(i).onReset();
+        logger.log("INIT", "Simulator reset to pre-launch.");
+    }
+
+    /**
+     * reset(), then reseeds the random source so the mission is reproducible.
+     */
+    public synchronized void reset(long seed) {
+        reset();
+        random.setSeed(seed);
     }
 
     public void setState(RocketState newState) {
+        RocketState previous = currentState;
         this.currentState = newState;
+        if (previous != newState && previous != null && StateTransitionEvent.enabled()) {
+            StateTransitionEvent event = new StateTransitionEvent();
+            if (event.shouldCommit()) {
+                event.missionId = logger.getMissionId();
+                event.tick = rocket.getTimeElapsedSeconds();
+                event.from = previous.getStageName();
+                event.to = newState.getStageName();
+                event.commit();
+            }
+        }
     }
 
     public void initiatePreLaunchChecks() {
-        Logger.getInstance().log("COMMAND", "Initiating Pre-Launch Checks...");
+        logger.log("COMMAND", "Initiating Pre-Launch Checks...");
         if (currentState instanceof PreLaunch) {
             currentState.executeLogic(this);
         } else {
-            Logger.getInstance().log("WARNING", "Pre-Launch checks can only be initiated in the Pre-Launch state.");
+            logger.log("WARNING", "Pre-Launch checks can only be initiated in the Pre-Launch state.");
         }
     }
 
+    /**
+     * Ignites stage 1 and enters the ascent. Callers check isChecksComplete() first.
+     */
+    public void beginAscent() {
+        rocket.setCurrentStage(1);
+        setState(ascentStage1);
+        logger.log("STATUS", "Launch initiated. Entering Stage 1.");
+        publishTick(); // The launch itself, at t = 0.
+    }
+
     public synchronized void advanceSimulation(int seconds) {
         for (int i = 0; i < seconds; i++) {
             if (!rocket.isMissionActive()) break;
 
+            TickEvent event = beginTick();
             currentState.executeLogic(this);
+            publishTick();
             notifyObservers();
+            if (event != null) commitTick(event);
+        }
+    }
+
+    // Without a recording, ticks only pay TickEvent's enabled check and allocate nothing.
+    private static TickEvent beginTick() {
+        if (!TickEvent.enabled()) return null;
+        TickEvent event = new TickEvent();
+        event.begin();
+        return event;
+    }
+
+    private void commitTick(TickEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.missionId = logger.getMissionId();
+            event.tick = rocket.getTimeElapsedSeconds();
+            event.stage = currentState.getStageName();
+            event.altitudeKm = rocket.getAltitudeKm();
+            event.fuelPercent = rocket.getFuelPercent();
+            event.commit();
         }
     }
 
+    /**
+     * Advances one second at a time until 'condition' holds, the mission ends, or
+     * 'maxSeconds' have passed, then notifies observers once with the final status.
+     * Tick listeners still see every tick.
+     * Stops on the tick the condition first holds; if it already holds, nothing is advanced.
+     * @return Seconds advanced.
+     */
+    public synchronized int advanceUntil(StopCondition condition, int maxSeconds) {
+        int ticks = 0;
+        while (ticks < maxSeconds && rocket.isMissionActive() && !condition.isMet(this)) {
+            TickEvent event = beginTick();
+            currentState.executeLogic(this);
+            publishTick();
+            if (event != null) commitTick(event);
+            ticks++;
+        }
+        notifyObservers();
+        return ticks;
+    }
+
+    /**
+     * Skips the failure-free part of the ascent that was just begun (see beginAscent) using
+     * the table of its spec. The mission's failure draws are taken in order against the
+     * table until one comes up true, or until the table's last tick; the rocket is then
+     * resumed just before that tick, whose draw is replayed when it is simulated. The rest
+     * of the mission, and its outcome, random source and likelihood ratio, are exactly those
+     * of simulating every tick.
+     * Only headless missions are skipped, since skipped ticks neither notify observers nor
+     * log: with observers, tick listeners, a STAGE_SEP-enabled logger or a TickEvent recording
+     * this is a no-op.
+     * @return Ticks skipped.
+     * @throws IllegalArgumentException If 'nominal' was computed for another spec.
+     */
+    public synchronized int fastForwardNominal(NominalTrajectory nominal) {
+        if (nominal.getSpec() != rocket.getSpec()) {
+            throw new IllegalArgumentException("Nominal trajectory was computed for a different rocket spec.");
+        }
+        if (currentState != ascentStage1 || rocket.getTimeElapsedSeconds() != 0 || !rocket.isMissionActive()
+                || !observers.isEmpty() || !tickListeners.isEmpty() || logger.isEnabled("STAGE_SEP")
+                || TickEvent.enabled()) {
+            return 0;
+        }
+        int last = nominal.getTicks();
+        for (int tick = 1; tick <= last; tick++) {
+            FailureMode mode = nominal.drawAt(tick);
+            if (mode != null && sampleFailure(mode)) return resumeBefore(nominal, tick, mode, true);
+        }
+        if (nominal.isEnded()) return resumeBefore(nominal, last, nominal.drawAt(last), false);
+        nominal.restore(this, last); // Every draw up to here is taken; carry on from the last row.
+        return last;
+    }
+
+    private int resumeBefore(NominalTrajectory nominal, int tick, FailureMode mode, boolean failed) {
+        nominal.restore(this, tick - 1);
+        replayMode = mode;
+        replayFailed = failed;
+        return tick - 1;
+    }
+
     public void handleMissionFailure(String reason) {
         if (missionFailureReported) return;
 
@@ -67,7 +256,14 @@ public class RocketLaunchSimulator {
         lastFailureReason = reason;
         rocket.setMissionActive(false);
 
-        Logger.getInstance().log("FAILURE", "MISSION FAILED: " + reason);
+        logger.log("FAILURE", "MISSION FAILED: ", reason);
+        if (MissionFailureEvent.enabled()) {
+            MissionFailureEvent event = new MissionFailureEvent();
+            event.missionId = logger.getMissionId();
+            event.tick = rocket.getTimeElapsedSeconds();
+            event.reason = reason;
+            event.commit();
+        }
         // Do not notify observers here; advanceSimulation already calls it.
     }
 
@@ -83,11 +279,21 @@ public class RocketLaunchSimulator {
         observers.add(observer);
     }
 
+    public void addTickListener(TickListener listener) {
+        tickListeners.add(listener);
+    }
+
     public void postCustomMessage(String message) {
         notifyObservers(message);
     }
 
+    // Indexed so headless ticks (no listeners) allocate no iterator.
+    private void publishTick() {
+        for (int i = 0; i < tickListeners.size(); i++) tickListeners.get(i).onTick(rocket);
+    }
+
     private void notifyObservers() {
+        if (observers.isEmpty()) return; // Headless runs skip formatting entirely.
         String status = getCurrentStatusString();
         if (!status.equals(lastStatusSent)) {
             lastStatusSent = status;
@@ -108,10 +314,7 @@ public class RocketLaunchSimulator {
 
     private String getCurrentStatusString() {
         if (!rocket.isMissionActive()) {
-            boolean hasReachedAltitude = rocket.getAltitudeKm() >= rocket.getMaxAltitudeKm();
-            boolean hasReachedSpeed = rocket.getSpeedKmh() >= rocket.getMaxOrbitalSpeedKmh();
-
-            if (hasReachedAltitude && hasReachedSpeed) {
+            if (isMissionSuccessful()) {
                 return "--- MISSION SUCCESSFUL ---";
             }
             String failureMsg = "--- MISSION FAILED ---";
@@ -125,12 +328,82 @@ public class RocketLaunchSimulator {
     }
 
     public Rocket getRocket() { return rocket; }
+    public Logger getLogger() { return logger; }
     public String getStageName() { return currentState.getStageName(); }
+    public RocketState getPreLaunchState() { return preLaunch; }
+    public RocketState getAscentStage1State() { return ascentStage1; }
+    public RocketState getAscentStage2State() { return ascentStage2; }
     public boolean isChecksComplete() { return checksComplete; }
     public void setChecksComplete(boolean checksComplete) { this.checksComplete = checksComplete; }
     public boolean isMissionActive() { return rocket.isMissionActive(); }
+    public String getLastFailureReason() { return lastFailureReason; }
+    public Random getRandom() { return random; }
+
+    /**
+     * Reseeds the mission's random source, so a run with the same seed and commands
+     * follows the same failure sequence.
+     */
+    public void reseed(long seed) { random.setSeed(seed); }
+
+    /**
+     * Samples failures from 'model' instead of the nominal probabilities (importance sampling).
+     * Set it before pre-launch checks; the mission's likelihood ratio restarts at 1.
+     */
+    public void setFailureModel(FailureModel model) {
+        this.failureModel = model;
+        this.likelihoodRatio = 1.0;
+    }
+
+    public FailureModel getFailureModel() { return failureModel; }
+
+    /**
+     * Weight that makes this mission's outcome an unbiased sample of the nominal model.
+     */
+    public double getLikelihoodRatio() { return likelihoodRatio; }
+
+    /**
+     * Draws whether 'mode' happens now. States call this for every failure check, so a biased
+     * failure model can update the mission's likelihood ratio.
+     */
+    public boolean sampleFailure(FailureMode mode) {
+        if (replayMode != null) {
+            if (replayMode != mode) {
+                throw new IllegalStateException("Resumed tick drew " + mode + " instead of " + replayMode + ".");
+            }
+            replayMode = null;
+            return replayFailed; // Drawn, and weighted, by fastForwardNominal.
+        }
+        drawCount++;
+        lastDrawMode = mode;
+        double q = failureModel.getProbability(mode);
+        boolean failed = random.nextDouble() < q;
+        if (failureModel.isBiased(mode)) {
+            double p = mode.getNominalProbability();
+            likelihoodRatio *= failed ? p / q : (1 - p) / (1 - q);
+        }
+        return failed;
+    }
+
+    // True once the mission has ended in orbit.
+    public boolean isMissionSuccessful() {
+        return !rocket.isMissionActive()
+                && rocket.getAltitudeKm() >= rocket.getMaxAltitudeKm()
+                && rocket.getSpeedKmh() >= rocket.getMaxOrbitalSpeedKmh();
+    }
 
     public interface MissionStatusObserver {
         void updateStatus(String status);
     }
+
+    /**
+     * Sees the rocket after every simulated second (and at launch), including ticks that
+     * advanceUntil does not report to observers, e.g. to record a trajectory. Called on the
+     * simulation thread with the simulator locked, so the rocket may be read directly.
+     */
+    public interface TickListener {
+        void onTick(Rocket rocket);
+
+        /** The simulator was reset; the next tick belongs to a new mission. */
+        default void onReset() { }
+    }
 }
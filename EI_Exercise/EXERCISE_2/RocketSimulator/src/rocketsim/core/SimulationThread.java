@@ -49,8 +49,8 @@ public class SimulationThread extends Thread {
 
             try {
                 Thread.sleep(1000);
-                // We still need to check if we were paused during the sleep.
-                if (!paused) {
+                // We still need to check if we were paused or stopped during the sleep.
+                if (running && !paused) {
                     simulator.advanceSimulation(1);
                 }
             } catch (InterruptedException e) {
@@ -0,0 +1,107 @@
+package rocketsim.core;
+
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import rocketsim.model.Rocket;
+
+/**
+ * Predicate checked after every tick of RocketLaunchSimulator.advanceUntil.
+ * Build one with compile(), once per run: the text is parsed up front and the
+ * per-tick check is a getter call and a comparison.
+ *
+ * Events: stage_sep, orbit, fuel_leak, mission_end, failure.
+ * Conditions: &lt;altitude|fuel|speed|time|stage&gt; &lt;op&gt; &lt;number&gt;, with op one of
+ * &lt; &lt;= &gt; &gt;= ==; units are km, percent, km/h, seconds and stage number.
+ */
+public interface StopCondition {
+
+    boolean isMet(RocketLaunchSimulator simulator);
+
+    /**
+     * Parses an event name or threshold condition, e.g. "orbit", "altitude>120", "fuel &lt; 5".
+     * @throws IllegalArgumentException If the text is neither.
+     */
+    static StopCondition compile(String text) {
+        String source = text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        switch (source) {
+            case "stage_sep": return named(source, sim -> sim.getRocket().getCurrentStage() >= 2);
+            case "orbit": return named(source, RocketLaunchSimulator::isMissionSuccessful);
+            case "fuel_leak": return named(source, sim -> sim.getRocket().isFuelLeakActive());
+            case "mission_end": return named(source, sim -> !sim.isMissionActive());
+            case "failure": return named(source, sim -> !sim.isMissionActive() && !sim.isMissionSuccessful());
+            default: return Threshold.compile(source, text);
+        }
+    }
+
+    private static StopCondition named(String source, StopCondition test) {
+        return new StopCondition() {
+            @Override
+            public boolean isMet(RocketLaunchSimulator simulator) { return test.isMet(simulator); }
+
+            @Override
+            public String toString() { return source; }
+        };
+    }
+
+    // "<metric><op><value>", with the metric getter and operator resolved at compile time.
+    final class Threshold implements StopCondition {
+        private static final Pattern SYNTAX = Pattern.compile("([a-z]+)(<=|>=|==|<|>)(-?\\d+(?:\\.\\d+)?)");
+
+        private final String source;
+        private final ToDoubleFunction<Rocket> metric;
+        private final int op; // 0 <, 1 <=, 2 >, 3 >=, 4 ==
+        private final double value;
+
+        private Threshold(String source, ToDoubleFunction<Rocket> metric, int op, double value) {
+            this.source = source;
+            this.metric = metric;
+            this.op = op;
+            this.value = value;
+        }
+
+        static Threshold compile(String source, String original) {
+            Matcher m = SYNTAX.matcher(source);
+            if (!m.matches()) {
+                throw new IllegalArgumentException("Unknown event or condition '" + original.trim()
+                        + "'. Use stage_sep, orbit, fuel_leak, mission_end, failure,"
+                        + " or e.g. altitude>120, fuel<5, speed>=27000, time>=300, stage==2.");
+            }
+            ToDoubleFunction<Rocket> metric;
+            switch (m.group(1)) {
+                case "altitude": metric = Rocket::getAltitudeKm; break;
+                case "fuel": metric = Rocket::getFuelPercent; break;
+                case "speed": metric = Rocket::getSpeedKmh; break;
+                case "time": metric = Rocket::getTimeElapsedSeconds; break;
+                case "stage": metric = Rocket::getCurrentStage; break;
+                default: throw new IllegalArgumentException("Unknown quantity '" + m.group(1)
+                        + "'. Use altitude, fuel, speed, time or stage.");
+            }
+            int op;
+            switch (m.group(2)) {
+                case "<": op = 0; break;
+                case "<=": op = 1; break;
+                case ">": op = 2; break;
+                case ">=": op = 3; break;
+                default: op = 4; break;
+            }
+            return new Threshold(source, metric, op, Double.parseDouble(m.group(3)));
+        }
+
+        @Override
+        public boolean isMet(RocketLaunchSimulator simulator) {
+            double current = metric.applyAsDouble(simulator.getRocket());
+            switch (op) {
+                case 0: return current < value;
+                case 1: return current <= value;
+                case 2: return current > value;
+                case 3: return current >= value;
+                default: return current == value;
+            }
+        }
+
+        @Override
+        public String toString() { return source; }
+    }
+}
@@ -2,16 +2,25 @@ package rocketsim.director;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import rocketsim.builder.RocketBuilder;
 import rocketsim.exception.ProfileLoadException;
 import rocketsim.model.Rocket;
+import rocketsim.model.RocketSpec;
+import rocketsim.strategy.ConstantPropulsion;
+import rocketsim.strategy.LookupTable;
+import rocketsim.strategy.PropulsionStrategy;
+import rocketsim.strategy.TabulatedPropulsion;
 
 /**
  * The Mission Director class is now responsible for loading rocket profiles
  * from .properties files and using the RocketBuilder to construct the vehicle.
  */
 public class MissionDirector {
+    // Profiles are classpath resources, so each one is read and parsed once per JVM.
+    private static final Map<String, RocketSpec> SPECS = new ConcurrentHashMap<>();
 
     /**
      * Builds a rocket based on the specified profile name.
@@ -20,6 +29,25 @@ public class MissionDirector {
      * @throws ProfileLoadException if the profile file cannot be found, read, or is invalid.
      */
     public Rocket buildRocket(String profileName) throws ProfileLoadException {
+        return new Rocket(loadSpec(profileName));
+    }
+
+    /**
+     * Returns the validated, immutable spec of a profile, loading it on first use.
+     * @throws ProfileLoadException if the profile file cannot be found, read, or is invalid.
+     */
+    public RocketSpec loadSpec(String profileName) throws ProfileLoadException {
+        RocketSpec spec = SPECS.get(profileName);
+        if (spec == null) {
+            // Two threads may both parse; the first to publish wins, so every caller shares one spec.
+            spec = parseSpec(profileName);
+            RocketSpec published = SPECS.putIfAbsent(profileName, spec);
+            if (published != null) spec = published;
+        }
+        return spec;
+    }
+
+    private RocketSpec parseSpec(String profileName) throws ProfileLoadException {
         Properties props = loadProfile(profileName);
         RocketBuilder builder = new RocketBuilder();
 
@@ -35,8 +63,12 @@ public class MissionDirector {
                 .setMaxAltitudeKm(getDouble(props, "maxAltitudeKm"))
                 .setMaxOrbitalSpeedKmh(getDouble(props, "maxSpeedKmh"))
                 .setStageSeparationAltitudeM(getDouble(props, "stageSeparationAltitudeM"))
-                .build();
-        } catch (NullPointerException | NumberFormatException e) {
+                .setStage1Propulsion(getPropulsion(props, "stage1",
+                        getDouble(props, "stage1ThrustN"), getDouble(props, "stage1BurnRateKgS")))
+                .setStage2Propulsion(getPropulsion(props, "stage2",
+                        getDouble(props, "stage2ThrustN"), getDouble(props, "stage2BurnRateKgS")))
+                .buildSpec();
+        } catch (NullPointerException | IllegalArgumentException e) {
             // This catches errors if a key is missing or is not a valid number.
             throw new ProfileLoadException("Profile file '" + profileName + ".properties' is corrupted or missing a key.", e);
         }
@@ -61,6 +93,28 @@ public class MissionDirector {
         return props;
     }
 
+    /**
+     * Reads the optional propulsion settings of a stage; without them the stage burns at constant thrust.
+     *   stageNPropulsion        = constant | throttle | curve
+     *   stageNPropulsion.axis   = time | altitude   (seconds since ignition, or metres)
+     *   stageNPropulsion.points = x:y, x:y, ...     (throttle fraction, or thrust in newtons)
+     */
+    private PropulsionStrategy getPropulsion(Properties props, String stage, double thrustN, double burnRateKgS) {
+        String key = stage + "Propulsion";
+        String mode = props.getProperty(key, "constant").trim().toLowerCase();
+        if (mode.equals("constant")) {
+            return new ConstantPropulsion(thrustN, burnRateKgS);
+        }
+        if (!mode.equals("throttle") && !mode.equals("curve")) {
+            throw new IllegalArgumentException("Unknown propulsion mode for " + stage + ": " + mode);
+        }
+        TabulatedPropulsion.Axis axis =
+                TabulatedPropulsion.Axis.valueOf(props.getProperty(key + ".axis", "time").trim().toUpperCase());
+        double scale = mode.equals("throttle") ? thrustN : 1.0;
+        LookupTable curve = LookupTable.parse(props.getProperty(key + ".points"), scale);
+        return new TabulatedPropulsion(curve, axis, thrustN, burnRateKgS);
+    }
+
     /**
      * Helper method to parse a property as a double.
      */
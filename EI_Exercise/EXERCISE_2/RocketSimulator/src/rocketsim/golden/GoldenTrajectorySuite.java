@@ -0,0 +1,79 @@
+package rocketsim.golden;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records golden trajectories with the reference simulator, and checks any engine against them.
+ *
+ * Usage: java rocketsim.golden.GoldenTrajectorySuite record [--dir golden]
+ *        java rocketsim.golden.GoldenTrajectorySuite check  [--dir golden] [--engine class]
+ *                                                          [--tolerance field=abs[/rel],...]
+ * Fields: elapsedS, stage, altitudeM, speedMs, fuelPercent, thrustN, fuelLeak, active, or 'all'.
+ * check prints one line per scenario and exits with status 1 if any scenario diverges.
+ */
+public class GoldenTrajectorySuite {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || !(args[0].equals("record") || args[0].equals("check"))) {
+            throw new IllegalArgumentException("First argument must be 'record' or 'check'.");
+        }
+        Path dir = Path.of("golden");
+        String engineClass = SimulatorEngine.class.getName();
+        Tolerances tolerances = Tolerances.exact();
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dir": dir = Path.of(args[++i]); break;
+                case "--engine": engineClass = args[++i]; break;
+                case "--tolerance": tolerances.parse(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        List<Scenario> scenarios = Scenario.standardSet();
+        if (args[0].equals("record")) {
+            record(new SimulatorEngine(), scenarios, dir);
+        } else {
+            TrajectoryEngine engine = (TrajectoryEngine) Class.forName(engineClass).getDeclaredConstructor().newInstance();
+            System.exit(check(engine, scenarios, dir, tolerances) ? 0 : 1);
+        }
+    }
+
+    public static void record(TrajectoryEngine engine, List<Scenario> scenarios, Path dir) throws IOException {
+        for (Scenario scenario : scenarios) {
+            Trajectory trajectory = engine.fly(scenario);
+            trajectory.write(file(dir, scenario), scenario.describe());
+            System.out.printf("%-24s %6d rows  %s%n", scenario.getName(), trajectory.size(), trajectory.getOutcome());
+        }
+        System.out.println("Golden trajectories written to " + dir.toAbsolutePath());
+    }
+
+    /**
+     * @return true if every scenario matches its golden trajectory.
+     */
+    public static boolean check(TrajectoryEngine engine, List<Scenario> scenarios, Path dir, Tolerances tolerances)
+            throws IOException {
+        System.out.printf("=== %s against %s ===%n", engine.getClass().getSimpleName(), dir);
+        int failed = 0;
+        for (Scenario scenario : scenarios) {
+            Path file = file(dir, scenario);
+            if (!Files.exists(file)) {
+                System.out.printf("%-24s MISSING %s (run 'record' first)%n", scenario.getName(), file);
+                failed++;
+                continue;
+            }
+            TrajectoryDiff diff = new TrajectoryDiff(scenario.getName(), Trajectory.read(file), engine.fly(scenario),
+                    tolerances);
+            System.out.println(diff.report());
+            if (!diff.matches()) failed++;
+        }
+        System.out.println(failed == 0 ? "All scenarios match." : failed + " of " + scenarios.size() + " scenarios diverge.");
+        return failed == 0;
+    }
+
+    private static Path file(Path dir, Scenario scenario) {
+        return dir.resolve(scenario.getName() + ".csv");
+    }
+}
@@ -0,0 +1,82 @@
+package rocketsim.golden;
+
+import java.util.ArrayList;
+import java.util.List;
+import rocketsim.builder.RocketBuilder;
+import rocketsim.director.MissionDirector;
+import rocketsim.exception.ProfileLoadException;
+import rocketsim.model.RocketSpec;
+import rocketsim.state.FailureModel;
+import rocketsim.strategy.LookupTable;
+import rocketsim.strategy.TabulatedPropulsion;
+
+/**
+ * One reference mission: a vehicle, the failure model it flies under and the seed of its draws.
+ */
+public final class Scenario {
+    private final String name;
+    private final RocketSpec spec;
+    private final FailureModel failureModel;
+    private final long seed;
+
+    public Scenario(String name, RocketSpec spec, FailureModel failureModel, long seed) {
+        this.name = name;
+        this.spec = spec;
+        this.failureModel = failureModel;
+        this.seed = seed;
+    }
+
+    public String getName() { return name; }
+    public RocketSpec getSpec() { return spec; }
+    public FailureModel getFailureModel() { return failureModel; }
+    public long getSeed() { return seed; }
+
+    public String describe() {
+        return String.format("scenario=%s failures=%s seed=%d", name, failureModel, seed);
+    }
+
+    /**
+     * The golden set: the leo profile with failures off and with seeded failures, plus
+     * vehicles that exercise other masses, thrust levels and tabulated propulsion.
+     */
+    public static List<Scenario> standardSet() throws ProfileLoadException {
+        RocketSpec leo = new MissionDirector().loadSpec("leo");
+        FailureModel none = FailureModel.none();
+        List<Scenario> set = new ArrayList<>();
+        set.add(new Scenario("leo-nofail", leo, none, 0));
+        // Seeds (as in a batch run) picked for each outcome: success, stage 1 flameout, fuel leak
+        // then fuel exhaustion, fuel leak but still orbit, pre-launch malfunction.
+        for (long seed : new long[] {0, 1, 4, 11, 35}) {
+            set.add(new Scenario("leo-seed-" + seed, leo, FailureModel.nominal(), seed));
+        }
+
+        set.add(new Scenario("heavy-nofail", leoLike().setInitialMassKg(620000).setFuelMassKg(500000).buildSpec(), none, 0));
+        set.add(new Scenario("light-nofail", leoLike().setInitialMassKg(480000).setFuelMassKg(380000)
+                .setStage1DryMassKg(20000).buildSpec(), none, 0));
+        set.add(new Scenario("high-thrust-nofail", leoLike().setStage1ThrustN(9000000).setStage2ThrustN(1100000)
+                .setBurnRateKgS(3600).buildSpec(), none, 0));
+        set.add(new Scenario("low-separation-nofail", leoLike().setStageSeparationAltitudeM(50000).buildSpec(), none, 0));
+        set.add(new Scenario("throttled-nofail", leoLike()
+                .setStage1Propulsion(new TabulatedPropulsion(LookupTable.parse("0:1.0, 50:1.0, 60:0.7, 80:0.7, 90:1.0",
+                        7607000.0), TabulatedPropulsion.Axis.TIME, 7607000.0, 3000.0))
+                .setStage2Propulsion(new TabulatedPropulsion(LookupTable.parse("80000:934000, 150000:980000", 1.0),
+                        TabulatedPropulsion.Axis.ALTITUDE, 934000.0, 400.0))
+                .buildSpec(), none, 0));
+        return set;
+    }
+
+    // The leo profile's parameters, to vary one or two at a time.
+    private static RocketBuilder leoLike() {
+        return new RocketBuilder()
+                .setInitialMassKg(549054.0)
+                .setFuelMassKg(440000.0)
+                .setStage1DryMassKg(25600.0)
+                .setStage1ThrustN(7607000.0)
+                .setStage2ThrustN(934000.0)
+                .setBurnRateKgS(3000.0)
+                .setStage2BurnRateKgS(400.0)
+                .setMaxAltitudeKm(200.0)
+                .setMaxOrbitalSpeedKmh(4750.0)
+                .setStageSeparationAltitudeM(80000.0);
+    }
+}
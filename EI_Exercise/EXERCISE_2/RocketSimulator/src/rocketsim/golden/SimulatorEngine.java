@@ -0,0 +1,37 @@
+package rocketsim.golden;
+
+import rocketsim.batch.MissionRunner;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.util.Logger;
+
+/**
+ * Flies scenarios through RocketLaunchSimulator and its states exactly as MissionRunner does,
+ * so scenario seed N is batch mission N, recording the rocket after every tick.
+ */
+public class SimulatorEngine implements TrajectoryEngine {
+
+    @Override
+    public Trajectory fly(Scenario scenario) {
+        RocketLaunchSimulator simulator = new RocketLaunchSimulator(Logger.silent(scenario.getName()), scenario.getSpec());
+        simulator.setFailureModel(scenario.getFailureModel());
+        simulator.reset(MissionRunner.mix(scenario.getSeed()));
+
+        Trajectory trajectory = new Trajectory();
+        simulator.initiatePreLaunchChecks();
+        if (simulator.isChecksComplete()) {
+            simulator.beginAscent();
+            trajectory.record(simulator.getRocket());
+            while (simulator.isMissionActive()) {
+                simulator.advanceSimulation(1);
+                if (simulator.getRocket().getTimeElapsedSeconds() >= MissionRunner.MAX_MISSION_SECONDS) {
+                    simulator.handleMissionFailure("Mission timed out.");
+                }
+                trajectory.record(simulator.getRocket());
+            }
+        } else {
+            trajectory.record(simulator.getRocket());
+        }
+        trajectory.setOutcome(simulator.isMissionSuccessful() ? "SUCCESS" : simulator.getLastFailureReason());
+        return trajectory;
+    }
+}
@@ -0,0 +1,58 @@
+package rocketsim.golden;
+
+import java.util.Arrays;
+
+/**
+ * Per-field allowed deviation: a value matches if it is within the absolute tolerance
+ * or within the relative tolerance of the golden value. Exact by default.
+ */
+public final class Tolerances {
+    private final double[] absolute = new double[Trajectory.Field.values().length];
+    private final double[] relative = new double[Trajectory.Field.values().length];
+
+    public static Tolerances exact() {
+        return new Tolerances();
+    }
+
+    public Tolerances set(Trajectory.Field field, double abs, double rel) {
+        if (abs < 0 || rel < 0) throw new IllegalArgumentException("Tolerances must not be negative.");
+        absolute[field.ordinal()] = abs;
+        relative[field.ordinal()] = rel;
+        return this;
+    }
+
+    /**
+     * Applies "field=abs[/rel],..." on top of this; the field 'all' sets every field,
+     * e.g. "all=1e-9/1e-12,altitudeM=0.5".
+     */
+    public Tolerances parse(String spec) {
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] kv = part.split("=");
+            if (kv.length != 2) throw new IllegalArgumentException("Expected field=abs[/rel] but got: " + part);
+            String[] values = kv[1].split("/");
+            double abs = Double.parseDouble(values[0].trim());
+            double rel = values.length > 1 ? Double.parseDouble(values[1].trim()) : 0.0;
+            if (kv[0].trim().equalsIgnoreCase("all")) {
+                Arrays.fill(absolute, abs);
+                Arrays.fill(relative, rel);
+                if (abs < 0 || rel < 0) throw new IllegalArgumentException("Tolerances must not be negative.");
+            } else {
+                set(Trajectory.Field.parse(kv[0].trim()), abs, rel);
+            }
+        }
+        return this;
+    }
+
+    public boolean matches(Trajectory.Field field, double expected, double actual) {
+        if (Double.doubleToLongBits(expected) == Double.doubleToLongBits(actual)) return true;
+        double diff = Math.abs(actual - expected);
+        return diff <= absolute[field.ordinal()] || diff <= relative[field.ordinal()] * Math.abs(expected);
+    }
+
+    public String describe(Trajectory.Field field) {
+        double abs = absolute[field.ordinal()], rel = relative[field.ordinal()];
+        if (abs == 0 && rel == 0) return "exact";
+        return rel == 0 ? String.format("abs %.3g", abs) : String.format("abs %.3g / rel %.3g", abs, rel);
+    }
+}
@@ -0,0 +1,116 @@
+package rocketsim.golden;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import rocketsim.model.Rocket;
+
+/**
+ * The rocket's state after every tick of one mission, plus how the mission ended.
+ * Row 0 is the state right after launch (or after a pre-launch abort).
+ * Stored as CSV with doubles written by Double.toString, which reads back bit for bit.
+ */
+public final class Trajectory {
+
+    /** Recorded quantities; integer and boolean fields are stored as 0/1 doubles. */
+    public enum Field {
+        ELAPSED_S("elapsedS"), STAGE("stage"), ALTITUDE_M("altitudeM"), SPEED_MS("speedMs"),
+        FUEL_PERCENT("fuelPercent"), THRUST_N("thrustN"), FUEL_LEAK("fuelLeak"), ACTIVE("active");
+
+        final String column;
+
+        Field(String column) { this.column = column; }
+
+        /** Accepts the enum name or the CSV column name, case-insensitively. */
+        public static Field parse(String name) {
+            for (Field f : values()) {
+                if (f.name().equalsIgnoreCase(name) || f.column.equalsIgnoreCase(name)) return f;
+            }
+            throw new IllegalArgumentException("Unknown trajectory field: " + name);
+        }
+
+        public String column() { return column; }
+    }
+
+    private static final int FIELDS = Field.values().length;
+
+    private double[] rows = new double[64 * FIELDS];
+    private int size;
+    private String outcome = "";
+
+    public void record(Rocket rocket) {
+        if ((size + 1) * FIELDS > rows.length) rows = Arrays.copyOf(rows, rows.length * 2);
+        int base = size * FIELDS;
+        rows[base + Field.ELAPSED_S.ordinal()] = rocket.getTimeElapsedSeconds();
+        rows[base + Field.STAGE.ordinal()] = rocket.getCurrentStage();
+        rows[base + Field.ALTITUDE_M.ordinal()] = rocket.getAltitudeKm() * 1000.0;
+        rows[base + Field.SPEED_MS.ordinal()] = rocket.getSpeedKmh() / 3.6;
+        rows[base + Field.FUEL_PERCENT.ordinal()] = rocket.getFuelPercent();
+        rows[base + Field.THRUST_N.ordinal()] = rocket.getCurrentThrustN();
+        rows[base + Field.FUEL_LEAK.ordinal()] = rocket.isFuelLeakActive() ? 1 : 0;
+        rows[base + Field.ACTIVE.ordinal()] = rocket.isMissionActive() ? 1 : 0;
+        size++;
+    }
+
+    public int size() { return size; }
+
+    public double get(int row, Field field) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        return rows[row * FIELDS + field.ordinal()];
+    }
+
+    /** "SUCCESS", or the failure reason the simulator reported. */
+    public String getOutcome() { return outcome; }
+
+    public void setOutcome(String outcome) { this.outcome = outcome == null ? "" : outcome; }
+
+    public void write(Path file, String description) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("# " + description + "\n");
+            out.write("# outcome=" + outcome + "\n");
+            StringBuilder line = new StringBuilder("row");
+            for (Field f : Field.values()) line.append(',').append(f.column);
+            out.write(line.append('\n').toString());
+            for (int row = 0; row < size; row++) {
+                line.setLength(0);
+                line.append(row);
+                for (Field f : Field.values()) {
+                    double v = get(row, f);
+                    line.append(',');
+                    if (v == Math.rint(v) && Math.abs(v) < 1e15) line.append((long) v); // Compact integers.
+                    else line.append(v);
+                }
+                out.write(line.append('\n').toString());
+            }
+        }
+    }
+
+    public static Trajectory read(Path file) throws IOException {
+        Trajectory t = new Trajectory();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            boolean header = false;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("# outcome=")) {
+                    t.outcome = line.substring("# outcome=".length());
+                } else if (line.startsWith("#") || line.isBlank()) {
+                    continue;
+                } else if (!header) {
+                    header = true; // Columns are always written in Field order.
+                } else {
+                    String[] parts = line.split(",");
+                    if (parts.length != FIELDS + 1) throw new IOException("Bad row in " + file + ": " + line);
+                    if ((t.size + 1) * FIELDS > t.rows.length) t.rows = Arrays.copyOf(t.rows, t.rows.length * 2);
+                    for (int i = 0; i < FIELDS; i++) t.rows[t.size * FIELDS + i] = Double.parseDouble(parts[i + 1]);
+                    t.size++;
+                }
+            }
+        }
+        return t;
+    }
+}
@@ -0,0 +1,82 @@
+package rocketsim.golden;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tick-by-tick comparison of a trajectory against its golden copy. Records the first row
+ * where any field is out of tolerance (with every field that diverged there), the largest
+ * deviation per field up to that row, and whether length or outcome differ.
+ */
+public final class TrajectoryDiff {
+    private final String scenario;
+    private final int goldenRows;
+    private final int actualRows;
+    private final int comparedRows;
+    private final int firstDivergentRow; // -1 if every compared row matched.
+    private final List<String> divergences = new ArrayList<>();
+    private final double[] maxDeviation = new double[Trajectory.Field.values().length];
+    private final String goldenOutcome;
+    private final String actualOutcome;
+
+    public TrajectoryDiff(String scenario, Trajectory golden, Trajectory actual, Tolerances tolerances) {
+        this.scenario = scenario;
+        this.goldenRows = golden.size();
+        this.actualRows = actual.size();
+        this.goldenOutcome = golden.getOutcome();
+        this.actualOutcome = actual.getOutcome();
+
+        int rows = Math.min(goldenRows, actualRows);
+        int first = -1;
+        int row = 0;
+        for (; row < rows && first < 0; row++) {
+            for (Trajectory.Field f : Trajectory.Field.values()) {
+                double e = golden.get(row, f), a = actual.get(row, f);
+                double d = Math.abs(a - e);
+                if (d > maxDeviation[f.ordinal()] || Double.isNaN(d)) maxDeviation[f.ordinal()] = d;
+                if (!tolerances.matches(f, e, a)) {
+                    first = row;
+                    divergences.add(String.format("%s expected %s actual %s (|d| %.3g, tolerance %s)",
+                            f.column(), e, a, d, tolerances.describe(f)));
+                }
+            }
+        }
+        this.comparedRows = row;
+        this.firstDivergentRow = first;
+    }
+
+    public boolean matches() {
+        return firstDivergentRow < 0 && goldenRows == actualRows && goldenOutcome.equals(actualOutcome);
+    }
+
+    public int getFirstDivergentRow() { return firstDivergentRow; }
+
+    public double getMaxDeviation(Trajectory.Field field) { return maxDeviation[field.ordinal()]; }
+
+    /**
+     * One line per scenario, plus one indented line per diverging field.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder(String.format("%-24s %6d rows  ", scenario, goldenRows));
+        if (matches()) {
+            sb.append("OK");
+            double alt = getMaxDeviation(Trajectory.Field.ALTITUDE_M), speed = getMaxDeviation(Trajectory.Field.SPEED_MS);
+            if (alt > 0 || speed > 0) sb.append(String.format("  (max |d| altitude %.3g m, speed %.3g m/s)", alt, speed));
+            return sb.toString();
+        }
+        if (firstDivergentRow >= 0) {
+            sb.append("DIVERGED at row ").append(firstDivergentRow)
+                .append(" (").append(comparedRows).append(" shared rows)");
+            for (String d : divergences) sb.append("\n    ").append(d);
+        } else if (goldenRows != actualRows) {
+            sb.append(String.format("LENGTH %d rows, golden has %d (all %d shared rows match)",
+                    actualRows, goldenRows, comparedRows));
+        } else {
+            sb.append("OUTCOME differs (all rows match)");
+        }
+        if (!goldenOutcome.equals(actualOutcome)) {
+            sb.append(String.format("%n    outcome expected \"%s\" actual \"%s\"", goldenOutcome, actualOutcome));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package rocketsim.golden;
+
+/**
+ * Anything that can fly a scenario: the reference simulator, or an optimized replacement
+ * to be checked against the golden trajectories. Implementations need a public no-arg
+ * constructor to be selected with GoldenTrajectorySuite --engine.
+ */
+public interface TrajectoryEngine {
+    Trajectory fly(Scenario scenario);
+}
@@ -0,0 +1,37 @@
+package rocketsim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Execution of one operator command, with its outcome.
+ */
+@Name("rocketsim.Command")
+@Label("Command")
+@Category("Rocket Simulator")
+@Description("Execution of one operator command")
+public class CommandEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(CommandEvent.class);
+
+    @Label("Mission Id")
+    public String missionId;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Tick")
+    @Description("Mission elapsed seconds when the command finished")
+    public int tick;
+
+    @Label("Error")
+    @Description("Mission control error message, if the command was rejected")
+    public String error;
+
+    /** True if a running recording has this event enabled; check before building one. */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,35 @@
+package rocketsim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One log line formatted and handed to its sink; filtered events are not recorded.
+ */
+@Name("rocketsim.LogWrite")
+@Label("Log Write")
+@Category("Rocket Simulator")
+@Description("Formatting and writing of one mission log line")
+@StackTrace(false)
+public class LogWriteEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(LogWriteEvent.class);
+
+    @Label("Mission Id")
+    public String missionId;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Length")
+    @Description("Characters in the log line")
+    public int length;
+
+    /** True if a running recording has this event enabled; check before building one. */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,30 @@
+package rocketsim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A mission failure as reported to RocketLaunchSimulator.handleMissionFailure.
+ */
+@Name("rocketsim.MissionFailure")
+@Label("Mission Failure")
+@Category("Rocket Simulator")
+public class MissionFailureEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(MissionFailureEvent.class);
+
+    @Label("Mission Id")
+    public String missionId;
+
+    @Label("Tick")
+    public int tick;
+
+    @Label("Reason")
+    public String reason;
+
+    /** True if a running recording has this event enabled; check before building one. */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
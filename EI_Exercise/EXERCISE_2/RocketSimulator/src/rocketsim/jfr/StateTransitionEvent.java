@@ -0,0 +1,35 @@
+package rocketsim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Change of the simulator's state, e.g. Pre-Launch to Stage 1.
+ */
+@Name("rocketsim.StateTransition")
+@Label("State Transition")
+@Category("Rocket Simulator")
+@StackTrace(false)
+public class StateTransitionEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(StateTransitionEvent.class);
+
+    @Label("Mission Id")
+    public String missionId;
+
+    @Label("Tick")
+    public int tick;
+
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+
+    /** True if a running recording has this event enabled; check before building one. */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,42 @@
+package rocketsim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One simulated second: the state's logic plus observer notification.
+ * Its duration is the tick latency to line up against GC pauses and I/O in a recording.
+ */
+@Name("rocketsim.Tick")
+@Label("Simulation Tick")
+@Category("Rocket Simulator")
+@Description("One second of simulated flight, including observer notification")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(TickEvent.class);
+
+    @Label("Mission Id")
+    public String missionId;
+
+    @Label("Tick")
+    @Description("Mission elapsed seconds after the tick")
+    public int tick;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Altitude (km)")
+    public double altitudeKm;
+
+    @Label("Fuel (%)")
+    public double fuelPercent;
+
+    /** True if a running recording has this event enabled; check before building one. */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -1,5 +1,7 @@
 package rocketsim.model;
 
+import rocketsim.strategy.ConstantPropulsion;
+import rocketsim.strategy.PropulsionStrategy;
 import rocketsim.util.Logger;
 
 /**
@@ -17,14 +19,13 @@ public class Rocket {
     private static final double SCALE_HEIGHT_M = 8500.0;
 
     // --- Immutable Properties ---
+    private final RocketSpec spec;
     private final double dryMassKg;
     private final double fuelMassKg;
     private final double maxOrbitalSpeedKmh;
     private final double maxAltitudeKm;
-    private final double stage1ThrustN;
-    private final double stage2ThrustN;
-    private final double stage1BurnRateKgS;
-    private final double stage2BurnRateKgS;
+    private final PropulsionStrategy stage1Propulsion;
+    private final PropulsionStrategy stage2Propulsion;
     private final double stage1DryMassKg;
     private final double stageSeparationAltitudeM;
 
@@ -35,39 +36,103 @@ public class Rocket {
     private double speedMs; // This now represents only vertical speed.
     private int currentStage;
     private int timeElapsedSeconds;
-    private double currentBurnRateKgS;
+    private int stageStartSeconds;
+    private PropulsionStrategy currentPropulsion;
+    private double burnRateMultiplier;
+    private double currentThrustN;
     private boolean missionActive;
     private boolean fuelLeakActive;
 
+    // Consistent per-tick view for threads other than the simulation thread.
+    private final TelemetrySeqlock telemetry = new TelemetrySeqlock();
+    private Logger logger; // Falls back to the global logger when not set.
+
     public Rocket(double initialMassKg, double fuelMassKg, double stage1ThrustN, double stage2ThrustN,
                   double stage1BurnRateKgS, double stage2BurnRateKgS, double maxOrbitalSpeedKmh, double maxAltitudeKm, 
                   double stage1DryMassKg, double stageSeparationAltitudeM) {
-        
-        this.dryMassKg = initialMassKg - fuelMassKg;
-        this.fuelMassKg = fuelMassKg;
-        this.stage1ThrustN = stage1ThrustN;
-        this.stage2ThrustN = stage2ThrustN;
-        this.stage1BurnRateKgS = stage1BurnRateKgS;
-        this.stage2BurnRateKgS = stage2BurnRateKgS;
-        this.maxOrbitalSpeedKmh = maxOrbitalSpeedKmh;
-        this.maxAltitudeKm = maxAltitudeKm;
-        this.stage1DryMassKg = stage1DryMassKg;
-        this.stageSeparationAltitudeM = stageSeparationAltitudeM;
-        
-        this.currentMassKg = initialMassKg;
+        this(initialMassKg, fuelMassKg, new ConstantPropulsion(stage1ThrustN, stage1BurnRateKgS),
+             new ConstantPropulsion(stage2ThrustN, stage2BurnRateKgS), maxOrbitalSpeedKmh, maxAltitudeKm,
+             stage1DryMassKg, stageSeparationAltitudeM);
+    }
+
+    public Rocket(double initialMassKg, double fuelMassKg, PropulsionStrategy stage1Propulsion,
+                  PropulsionStrategy stage2Propulsion, double maxOrbitalSpeedKmh, double maxAltitudeKm,
+                  double stage1DryMassKg, double stageSeparationAltitudeM) {
+        this(new RocketSpec(initialMassKg, fuelMassKg, stage1Propulsion, stage2Propulsion, maxOrbitalSpeedKmh,
+                            maxAltitudeKm, stage1DryMassKg, stageSeparationAltitudeM));
+    }
+
+    public Rocket(RocketSpec spec) {
+        this.spec = spec;
+        this.dryMassKg = spec.getInitialMassKg() - spec.getFuelMassKg();
+        this.fuelMassKg = spec.getFuelMassKg();
+        this.stage1Propulsion = spec.getStage1Propulsion();
+        this.stage2Propulsion = spec.getStage2Propulsion();
+        this.maxOrbitalSpeedKmh = spec.getMaxOrbitalSpeedKmh();
+        this.maxAltitudeKm = spec.getMaxAltitudeKm();
+        this.stage1DryMassKg = spec.getStage1DryMassKg();
+        this.stageSeparationAltitudeM = spec.getStageSeparationAltitudeM();
+        reset();
+    }
+
+    /**
+     * Puts the rocket back on the pad: full fuel, stage 0, no leak, mission active.
+     * Allocation-free, so a rocket can be reused for any number of missions.
+     */
+    public void reset() {
+        this.currentMassKg = spec.getInitialMassKg();
         this.currentFuelKg = fuelMassKg;
         this.altitudeM = 0.0;
         this.speedMs = 0.0;
         this.currentStage = 0;
-        this.currentBurnRateKgS = stage1BurnRateKgS;
+        this.timeElapsedSeconds = 0;
+        this.stageStartSeconds = 0;
+        this.currentPropulsion = stage1Propulsion;
+        this.burnRateMultiplier = 1.0;
+        this.currentThrustN = 0.0;
+        this.missionActive = true;
+        this.fuelLeakActive = false;
+        publishTelemetry();
+    }
+
+    /**
+     * Copies mass, fuel, altitude, speed and thrust into row[offset .. offset + 4], so a
+     * failure-free flight can be tabulated and later resumed with restoreNominal.
+     */
+    public void saveKinematics(double[] row, int offset) {
+        row[offset] = currentMassKg;
+        row[offset + 1] = currentFuelKg;
+        row[offset + 2] = altitudeM;
+        row[offset + 3] = speedMs;
+        row[offset + 4] = currentThrustN;
+    }
+
+    /**
+     * Puts the rocket at a point of a failure-free flight saved by saveKinematics: active,
+     * no leak, flying 'stage' since 'stageStartSeconds'. Allocation-free.
+     */
+    public void restoreNominal(double[] row, int offset, int timeElapsedSeconds, int stage, int stageStartSeconds) {
+        this.currentMassKg = row[offset];
+        this.currentFuelKg = row[offset + 1];
+        this.altitudeM = row[offset + 2];
+        this.speedMs = row[offset + 3];
+        this.currentThrustN = row[offset + 4];
+        this.timeElapsedSeconds = timeElapsedSeconds;
+        this.currentStage = stage;
+        this.stageStartSeconds = stageStartSeconds;
+        this.currentPropulsion = stage == 2 ? stage2Propulsion : stage1Propulsion;
+        this.burnRateMultiplier = 1.0;
         this.missionActive = true;
         this.fuelLeakActive = false;
+        publishTelemetry();
     }
 
     public void simulateSecond() {
         if (!missionActive || currentStage == 0) return;
 
-        double fuelToConsume = Math.min(currentFuelKg, currentBurnRateKgS);
+        double stageTimeS = timeElapsedSeconds - stageStartSeconds;
+        double burnRateKgS = currentPropulsion.burnRateKgS(stageTimeS, altitudeM) * burnRateMultiplier;
+        double fuelToConsume = Math.min(currentFuelKg, burnRateKgS);
         currentFuelKg -= fuelToConsume;
         
         if (currentStage == 1) {
@@ -80,7 +145,8 @@ public class Rocket {
         double gravityAtAltitude = (GRAVITATIONAL_CONSTANT * EARTH_MASS_KG) / (distanceFromCenterOfEarth * distanceFromCenterOfEarth);
         double forceOfGravity = currentMassKg * gravityAtAltitude;
 
-        double currentThrust = (currentStage == 1) ? stage1ThrustN : stage2ThrustN;
+        double currentThrust = currentPropulsion.thrustN(stageTimeS, altitudeM);
+        currentThrustN = currentThrust;
         
         double airDensity = AIR_DENSITY_SEA_LEVEL_KG_M3 * Math.exp(-altitudeM / SCALE_HEIGHT_M);
         double dragForce = 0.5 * airDensity * (speedMs * speedMs) * DRAG_COEFFICIENT * ROCKET_CROSS_SECTIONAL_AREA_M2;
@@ -89,6 +155,7 @@ public class Rocket {
         
         if (netForce < 0 && altitudeM <= 0) {
             timeElapsedSeconds++;
+            publishTelemetry();
             return; 
         }
 
@@ -112,13 +179,16 @@ public class Rocket {
         if (currentFuelKg <= 0) {
             missionActive = false;
         }
+        publishTelemetry();
     }
 
     public void separateStage() {
         if (currentStage == 1) {
-            Logger.getInstance().log("STAGE_SEP", "Stage 1 complete. Separating stage. Entering Stage 2.");
+            (logger != null ? logger : Logger.getInstance()).log("STAGE_SEP", "Stage 1 complete. Separating stage. Entering Stage 2.");
             currentStage = 2;
-            this.currentBurnRateKgS = this.stage2BurnRateKgS;
+            this.currentPropulsion = this.stage2Propulsion;
+            this.stageStartSeconds = timeElapsedSeconds;
+            this.burnRateMultiplier = 1.0;
         }
     }
 
@@ -134,14 +204,43 @@ public class Rocket {
     public double getMaxOrbitalSpeedKmh() { return maxOrbitalSpeedKmh; }
     public double getMaxAltitudeKm() { return maxAltitudeKm; }
     public boolean isFuelLeakActive() { return fuelLeakActive; }
+    public double getCurrentThrustN() { return currentThrustN; }
+    public RocketSpec getSpec() { return spec; }
+
+    public void setLogger(Logger logger) { this.logger = logger; }
 
-    public void setCurrentStage(int currentStage) { this.currentStage = currentStage; }
-    public void setMissionActive(boolean missionActive) { this.missionActive = missionActive; }
+    public void setCurrentStage(int currentStage) {
+        this.currentStage = currentStage;
+        publishTelemetry();
+    }
+
+    public void setMissionActive(boolean missionActive) {
+        this.missionActive = missionActive;
+        publishTelemetry();
+    }
+
+    /**
+     * Thread-safe read of the latest published tick into a reusable holder (no allocation).
+     * Use this instead of the individual getters from any thread other than the simulation thread.
+     */
+    public TelemetrySnapshot readTelemetry(TelemetrySnapshot target) {
+        return telemetry.read(target);
+    }
+
+    public TelemetrySnapshot getTelemetry() {
+        return telemetry.read(new TelemetrySnapshot());
+    }
+
+    private void publishTelemetry() {
+        telemetry.publish(altitudeM, speedMs, currentFuelKg, getFuelPercent(), currentStage,
+                timeElapsedSeconds, missionActive, fuelLeakActive);
+    }
     
     public void activateFuelLeak() {
         if (!fuelLeakActive) {
             fuelLeakActive = true;
-            currentBurnRateKgS *= 2;
+            burnRateMultiplier *= 2;
+            publishTelemetry();
         }
     }
 }
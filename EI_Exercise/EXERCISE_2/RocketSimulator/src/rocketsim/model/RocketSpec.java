@@ -0,0 +1,41 @@
+package rocketsim.model;
+
+import rocketsim.strategy.PropulsionStrategy;
+
+/**
+ * Immutable description of a vehicle: everything a Rocket needs to be built or reset to
+ * its launch-pad state. Produced by RocketBuilder.buildSpec() and cached per profile by
+ * MissionDirector, so many rockets (and resets) share one parsed profile.
+ */
+public final class RocketSpec {
+    private final double initialMassKg;
+    private final double fuelMassKg;
+    private final PropulsionStrategy stage1Propulsion;
+    private final PropulsionStrategy stage2Propulsion;
+    private final double maxOrbitalSpeedKmh;
+    private final double maxAltitudeKm;
+    private final double stage1DryMassKg;
+    private final double stageSeparationAltitudeM;
+
+    public RocketSpec(double initialMassKg, double fuelMassKg, PropulsionStrategy stage1Propulsion,
+                      PropulsionStrategy stage2Propulsion, double maxOrbitalSpeedKmh, double maxAltitudeKm,
+                      double stage1DryMassKg, double stageSeparationAltitudeM) {
+        this.initialMassKg = initialMassKg;
+        this.fuelMassKg = fuelMassKg;
+        this.stage1Propulsion = stage1Propulsion;
+        this.stage2Propulsion = stage2Propulsion;
+        this.maxOrbitalSpeedKmh = maxOrbitalSpeedKmh;
+        this.maxAltitudeKm = maxAltitudeKm;
+        this.stage1DryMassKg = stage1DryMassKg;
+        this.stageSeparationAltitudeM = stageSeparationAltitudeM;
+    }
+
+    public double getInitialMassKg() { return initialMassKg; }
+    public double getFuelMassKg() { return fuelMassKg; }
+    public PropulsionStrategy getStage1Propulsion() { return stage1Propulsion; }
+    public PropulsionStrategy getStage2Propulsion() { return stage2Propulsion; }
+    public double getMaxOrbitalSpeedKmh() { return maxOrbitalSpeedKmh; }
+    public double getMaxAltitudeKm() { return maxAltitudeKm; }
+    public double getStage1DryMassKg() { return stage1DryMassKg; }
+    public double getStageSeparationAltitudeM() { return stageSeparationAltitudeM; }
+}
@@ -0,0 +1,83 @@
+package rocketsim.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-writer, multi-reader publication of rocket telemetry using a sequence lock.
+ * The writer never blocks: it bumps the sequence to odd, stores the fields, and bumps it
+ * back to even. Readers copy the fields and retry if the sequence changed or was odd,
+ * so they always see values from one tick and never a mix of two.
+ * Fields are stored as raw long bits with opaque access so doubles cannot tear.
+ * Only one thread may publish at a time (the simulation tick is already serialized).
+ */
+public final class TelemetrySeqlock {
+    private static final VarHandle SEQ;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            SEQ = MethodHandles.lookup().findVarHandle(TelemetrySeqlock.class, "sequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int ALTITUDE = 0, SPEED = 1, FUEL_KG = 2, FUEL_PCT = 3, STAGE = 4,
+            ELAPSED = 5, FLAGS = 6, TICK = 7, SLOT_COUNT = 8;
+
+    private volatile long sequence; // Accessed through SEQ.
+    private final long[] slots = new long[SLOT_COUNT];
+    private long tick;
+
+    public void publish(double altitudeM, double speedMs, double currentFuelKg, double fuelPercent,
+                 int currentStage, int timeElapsedSeconds, boolean missionActive, boolean fuelLeakActive) {
+        long seq = (long) SEQ.getOpaque(this);
+        SEQ.setOpaque(this, seq + 1);
+        VarHandle.storeStoreFence(); // The odd sequence must be visible before any field changes.
+        SLOTS.setOpaque(slots, ALTITUDE, Double.doubleToRawLongBits(altitudeM));
+        SLOTS.setOpaque(slots, SPEED, Double.doubleToRawLongBits(speedMs));
+        SLOTS.setOpaque(slots, FUEL_KG, Double.doubleToRawLongBits(currentFuelKg));
+        SLOTS.setOpaque(slots, FUEL_PCT, Double.doubleToRawLongBits(fuelPercent));
+        SLOTS.setOpaque(slots, STAGE, (long) currentStage);
+        SLOTS.setOpaque(slots, ELAPSED, (long) timeElapsedSeconds);
+        SLOTS.setOpaque(slots, FLAGS, (missionActive ? 1L : 0L) | (fuelLeakActive ? 2L : 0L));
+        SLOTS.setOpaque(slots, TICK, ++tick);
+        SEQ.setRelease(this, seq + 2);
+    }
+
+    /**
+     * Copies the latest complete tick into 'target'; spins only while a publish is in progress.
+     * @return The same holder, for chaining.
+     */
+    public TelemetrySnapshot read(TelemetrySnapshot target) {
+        while (true) {
+            long before = (long) SEQ.getAcquire(this);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long altitude = (long) SLOTS.getOpaque(slots, ALTITUDE);
+            long speed = (long) SLOTS.getOpaque(slots, SPEED);
+            long fuelKg = (long) SLOTS.getOpaque(slots, FUEL_KG);
+            long fuelPct = (long) SLOTS.getOpaque(slots, FUEL_PCT);
+            long stage = (long) SLOTS.getOpaque(slots, STAGE);
+            long elapsed = (long) SLOTS.getOpaque(slots, ELAPSED);
+            long flags = (long) SLOTS.getOpaque(slots, FLAGS);
+            long t = (long) SLOTS.getOpaque(slots, TICK);
+            VarHandle.loadLoadFence(); // Field reads must complete before the sequence re-check.
+            if ((long) SEQ.getOpaque(this) != before) continue;
+
+            target.altitudeM = Double.longBitsToDouble(altitude);
+            target.speedMs = Double.longBitsToDouble(speed);
+            target.currentFuelKg = Double.longBitsToDouble(fuelKg);
+            target.fuelPercent = Double.longBitsToDouble(fuelPct);
+            target.currentStage = (int) stage;
+            target.timeElapsedSeconds = (int) elapsed;
+            target.missionActive = (flags & 1) != 0;
+            target.fuelLeakActive = (flags & 2) != 0;
+            target.tick = t;
+            return target;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package rocketsim.model;
+
+/**
+ * A consistent, single-tick view of the rocket's state.
+ * Instances are mutable holders so a reader can reuse one and read without allocating.
+ */
+public class TelemetrySnapshot {
+    long tick;
+    double altitudeM;
+    double speedMs;
+    double currentFuelKg;
+    double fuelPercent;
+    int currentStage;
+    int timeElapsedSeconds;
+    boolean missionActive;
+    boolean fuelLeakActive;
+
+    /** Number of publications so far; increases by one for every published state change. */
+    public long getTick() { return tick; }
+    public double getAltitudeM() { return altitudeM; }
+    public double getAltitudeKm() { return altitudeM / 1000.0; }
+    public double getSpeedMs() { return speedMs; }
+    public double getSpeedKmh() { return speedMs * 3.6; }
+    public double getCurrentFuelKg() { return currentFuelKg; }
+    public double getFuelPercent() { return fuelPercent; }
+    public int getCurrentStage() { return currentStage; }
+    public int getTimeElapsedSeconds() { return timeElapsedSeconds; }
+    public boolean isMissionActive() { return missionActive; }
+    public boolean isFuelLeakActive() { return fuelLeakActive; }
+}
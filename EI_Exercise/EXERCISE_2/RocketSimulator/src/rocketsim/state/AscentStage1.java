@@ -1,6 +1,5 @@
 package rocketsim.state;
 
-import java.util.Random;
 import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.model.Rocket;
 
@@ -9,8 +8,6 @@ import rocketsim.model.Rocket;
  * Failure Strategy: Engine Flameout (0.1% chance per second).
  */
 public class AscentStage1 implements RocketState {
-    private final Random random = new Random();
-
     @Override
     public void executeLogic(RocketLaunchSimulator simulator) {
         Rocket rocket = simulator.getRocket();
@@ -23,7 +20,7 @@ public class AscentStage1 implements RocketState {
         if (rocket.getCurrentStage() == 2) { 
             // Post the stage separation message to the user console
             simulator.postCustomMessage("Stage 1 complete. Separating stage. Entering Stage 2.");
-            simulator.setState(new AscentStage2());
+            simulator.setState(simulator.getAscentStage2State());
             return;
         }
 
@@ -36,7 +33,7 @@ public class AscentStage1 implements RocketState {
     @Override
     public boolean checkFailure(RocketLaunchSimulator simulator) {
         // Stage 1 Failure Strategy: Engine Flameout (0.1% chance every second)
-        if (random.nextDouble() < 0.001) { // 0.1% chance
+        if (simulator.sampleFailure(FailureMode.STAGE1_FLAMEOUT)) { // 0.1% chance
             simulator.handleMissionFailure("Catastrophic Engine Flameout in Stage 1.");
             return true;
         }
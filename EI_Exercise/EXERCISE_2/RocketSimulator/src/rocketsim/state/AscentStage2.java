@@ -1,17 +1,13 @@
 package rocketsim.state;
 
-import java.util.Random;
 import rocketsim.core.RocketLaunchSimulator;
 import rocketsim.model.Rocket;
-import rocketsim.util.Logger;
 
 /**
    Concrete State: Handles the ascent and orbital insertion in Stage 2.
    Failure Strategy: Fuel Leak (0.5% chance per second).
  */
 public class AscentStage2 implements RocketState {
-    private final Random random = new Random();
-
     @Override
     public void executeLogic(RocketLaunchSimulator simulator) {
         Rocket rocket = simulator.getRocket();
@@ -31,7 +27,7 @@ public class AscentStage2 implements RocketState {
                             rocket.getSpeedKmh() >= rocket.getMaxOrbitalSpeedKmh();
 
         if (isSuccess) {
-            Logger.getInstance().log("SUCCESS", "Orbit achieved! Mission Successful.");
+            simulator.getLogger().log("SUCCESS", "Orbit achieved! Mission Successful.");
             simulator.setInactive();
         }
     }
@@ -41,7 +37,8 @@ public class AscentStage2 implements RocketState {
         Rocket rocket = simulator.getRocket();
 
         // --- Failure Strategy: Fuel Leak ---
-        if (random.nextDouble() < 0.005 && !rocket.isFuelLeakActive()) { // 0.5% chance
+        // Only drawn while a leak is still possible, so importance weights count real draws only.
+        if (!rocket.isFuelLeakActive() && simulator.sampleFailure(FailureMode.STAGE2_FUEL_LEAK)) { // 0.5% chance
             rocket.activateFuelLeak();
             simulator.postCustomMessage("WARNING: Fuel Leak Detected! Fuel consumption rate has increased.");
         }
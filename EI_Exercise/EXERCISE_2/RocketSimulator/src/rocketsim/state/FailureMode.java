@@ -0,0 +1,21 @@
+package rocketsim.state;
+
+/**
+ * The random failures the mission states draw, with their nominal probabilities.
+ */
+public enum FailureMode {
+    /** PreLaunch: system malfunction, once per check. */
+    PRE_LAUNCH_MALFUNCTION(0.006),
+    /** AscentStage1: engine flameout, per second. */
+    STAGE1_FLAMEOUT(0.001),
+    /** AscentStage2: fuel leak, per second until one occurs. */
+    STAGE2_FUEL_LEAK(0.005);
+
+    private final double nominalProbability;
+
+    FailureMode(double nominalProbability) {
+        this.nominalProbability = nominalProbability;
+    }
+
+    public double getNominalProbability() { return nominalProbability; }
+}
@@ -0,0 +1,89 @@
+package rocketsim.state;
+
+import java.util.Arrays;
+
+/**
+ * Probabilities the simulator actually samples each FailureMode with. The nominal model uses
+ * the real probabilities; a biased model raises (or lowers) some of them for importance
+ * sampling, and the simulator weights each mission by the likelihood ratio of its draws
+ * so estimates stay unbiased for the nominal model. Immutable.
+ */
+public final class FailureModel {
+    private static final FailureModel NOMINAL = new FailureModel(nominalProbabilities());
+    private static final FailureModel NONE = new FailureModel(new double[FailureMode.values().length]);
+
+    private final double[] probabilities;
+
+    private FailureModel(double[] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    public static FailureModel nominal() {
+        return NOMINAL;
+    }
+
+    /**
+     * A model under which nothing ever fails, for deterministic reference runs.
+     * Its likelihood ratios are meaningless; do not use it for estimates.
+     */
+    public static FailureModel none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a copy of this model that samples 'mode' with 'probability' instead.
+     */
+    public FailureModel withProbability(FailureMode mode, double probability) {
+        if (!(probability > 0 && probability < 1)) {
+            throw new IllegalArgumentException("Sampling probability must be in (0, 1): " + probability);
+        }
+        double[] copy = probabilities.clone();
+        copy[mode.ordinal()] = probability;
+        return new FailureModel(copy);
+    }
+
+    /**
+     * Parses "MODE=p,MODE=p", e.g. "STAGE1_FLAMEOUT=0.01,PRE_LAUNCH_MALFUNCTION=0.1".
+     */
+    public static FailureModel parse(String spec) {
+        FailureModel model = NOMINAL;
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) continue;
+            String[] kv = part.split("=");
+            if (kv.length != 2) throw new IllegalArgumentException("Expected MODE=probability but got: " + part);
+            model = model.withProbability(FailureMode.valueOf(kv[0].trim().toUpperCase()), Double.parseDouble(kv[1].trim()));
+        }
+        return model;
+    }
+
+    public double getProbability(FailureMode mode) {
+        return probabilities[mode.ordinal()];
+    }
+
+    public boolean isBiased(FailureMode mode) {
+        return probabilities[mode.ordinal()] != mode.getNominalProbability();
+    }
+
+    public boolean isNominal() {
+        return Arrays.equals(probabilities, NOMINAL.probabilities);
+    }
+
+    private static double[] nominalProbabilities() {
+        double[] p = new double[FailureMode.values().length];
+        for (FailureMode mode : FailureMode.values()) p[mode.ordinal()] = mode.getNominalProbability();
+        return p;
+    }
+
+    @Override
+    public String toString() {
+        if (isNominal()) return "nominal";
+        if (Arrays.equals(probabilities, NONE.probabilities)) return "none";
+        StringBuilder sb = new StringBuilder();
+        for (FailureMode mode : FailureMode.values()) {
+            if (!isBiased(mode)) continue;
+            if (sb.length() > 0) sb.append(',');
+            sb.append(mode).append('=').append(getProbability(mode));
+        }
+        return sb.toString();
+    }
+}
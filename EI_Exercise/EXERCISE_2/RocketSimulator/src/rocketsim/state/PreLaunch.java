@@ -1,6 +1,5 @@
 package rocketsim.state;
 
-import java.util.Random;
 import rocketsim.core.RocketLaunchSimulator;
 
 /**
@@ -8,8 +7,6 @@ import rocketsim.core.RocketLaunchSimulator;
  * Failure Strategy: System Malfunction (0.5% chance).
  */
 public class PreLaunch implements RocketState {
-    private final Random random = new Random();
-
     @Override
     public void executeLogic(RocketLaunchSimulator simulator) {
         // This method is called by the 'start_checks' command.
@@ -25,7 +22,7 @@ public class PreLaunch implements RocketState {
     @Override
     public boolean checkFailure(RocketLaunchSimulator simulator) {
         // Pre-Launch Failure Strategy: 0.6% chance of system malfunction
-        if (random.nextDouble() < 0.006) { // 0.6% chance
+        if (simulator.sampleFailure(FailureMode.PRE_LAUNCH_MALFUNCTION)) { // 0.6% chance
             simulator.handleMissionFailure("System Malfunction detected during pre-launch checks.");
             return true;
         }
@@ -0,0 +1,20 @@
+package rocketsim.strategy;
+
+/**
+ * Concrete Strategy: fixed thrust and burn rate for the whole stage.
+ */
+public class ConstantPropulsion implements PropulsionStrategy {
+    private final double thrustN;
+    private final double burnRateKgS;
+
+    public ConstantPropulsion(double thrustN, double burnRateKgS) {
+        this.thrustN = thrustN;
+        this.burnRateKgS = burnRateKgS;
+    }
+
+    @Override
+    public double thrustN(double stageTimeS, double altitudeM) { return thrustN; }
+
+    @Override
+    public double burnRateKgS(double stageTimeS, double altitudeM) { return burnRateKgS; }
+}
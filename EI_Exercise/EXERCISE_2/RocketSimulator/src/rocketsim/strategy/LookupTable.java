@@ -0,0 +1,88 @@
+package rocketsim.strategy;
+
+/**
+ * Piecewise-linear curve compiled into flat primitive arrays for O(1) evaluation.
+ * A uniform grid no coarser than the closest pair of breakpoints maps any x to its
+ * segment with one multiply and at most one comparison, so the result is exact
+ * linear interpolation without a binary search. Values are clamped outside the range.
+ */
+public final class LookupTable {
+    // Upper bound on grid cells, so badly spaced breakpoints cannot blow up memory.
+    private static final int MAX_CELLS = 1 << 16;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] slopes;
+    private final int[] cellSegment;
+    private final double x0;
+    private final double invCellWidth;
+
+    /**
+     * @param xs Strictly increasing breakpoints.
+     * @param ys Curve values at each breakpoint.
+     * @throws IllegalArgumentException if the arrays are empty, mismatched or not increasing.
+     */
+    public LookupTable(double[] xs, double[] ys) {
+        if (xs.length == 0 || xs.length != ys.length) {
+            throw new IllegalArgumentException("A curve needs matching, non-empty x and y values.");
+        }
+        double minSpacing = Double.MAX_VALUE;
+        for (int i = 1; i < xs.length; i++) {
+            if (!(xs[i] > xs[i - 1])) {
+                throw new IllegalArgumentException("Curve breakpoints must be strictly increasing.");
+            }
+            minSpacing = Math.min(minSpacing, xs[i] - xs[i - 1]);
+        }
+
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+        this.slopes = new double[xs.length];
+        for (int i = 0; i + 1 < xs.length; i++) {
+            slopes[i] = (ys[i + 1] - ys[i]) / (xs[i + 1] - xs[i]);
+        }
+        this.x0 = xs[0];
+
+        double range = xs[xs.length - 1] - xs[0];
+        int cells = xs.length < 2 ? 1 : (int) Math.min(MAX_CELLS, Math.ceil(range / minSpacing));
+        double cellWidth = range / cells;
+        this.invCellWidth = range > 0 ? cells / range : 0.0;
+        this.cellSegment = new int[cells + 1];
+        int segment = 0;
+        for (int c = 0; c <= cells; c++) {
+            double cellStart = x0 + c * cellWidth;
+            while (segment + 2 < xs.length && xs[segment + 1] <= cellStart) segment++;
+            cellSegment[c] = segment;
+        }
+    }
+
+    public double valueAt(double x) {
+        if (x <= x0) return ys[0];
+        int last = xs.length - 1;
+        if (x >= xs[last]) return ys[last];
+        int segment = cellSegment[(int) ((x - x0) * invCellWidth)];
+        // A capped grid may hold more than one breakpoint per cell; normally this runs at most once.
+        while (x >= xs[segment + 1]) segment++;
+        return ys[segment] + slopes[segment] * (x - xs[segment]);
+    }
+
+    /**
+     * Parses "x:y, x:y, ..." as used in rocket profiles, e.g. "0:1.0, 60:0.7, 90:1.0".
+     * @param scale Multiplier applied to every y value (e.g. nominal thrust for throttle fractions).
+     * @throws IllegalArgumentException if the text is malformed.
+     */
+    public static LookupTable parse(String points, double scale) {
+        String[] pairs = points.split(",");
+        double[] xs = new double[pairs.length];
+        double[] ys = new double[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            String[] xy = pairs[i].trim().split(":");
+            if (xy.length != 2) {
+                throw new IllegalArgumentException("Curve point '" + pairs[i].trim() + "' must be written as x:y.");
+            }
+            xs[i] = Double.parseDouble(xy[0].trim());
+            ys[i] = Double.parseDouble(xy[1].trim()) * scale;
+            if (ys[i] < 0) throw new IllegalArgumentException("Curve values must not be negative.");
+        }
+        return new LookupTable(xs, ys);
+    }
+}
@@ -0,0 +1,21 @@
+package rocketsim.strategy;
+
+/**
+ * Interface for the Strategy pattern. Supplies the thrust and propellant mass flow of one stage.
+ * Implementations are evaluated once per simulated second, so they must be cheap and allocation-free.
+ */
+public interface PropulsionStrategy {
+    /**
+     * @param stageTimeS Seconds since this stage ignited.
+     * @param altitudeM  Current altitude in metres.
+     * @return Thrust in newtons.
+     */
+    double thrustN(double stageTimeS, double altitudeM);
+
+    /**
+     * @param stageTimeS Seconds since this stage ignited.
+     * @param altitudeM  Current altitude in metres.
+     * @return Propellant consumed per second, in kg/s.
+     */
+    double burnRateKgS(double stageTimeS, double altitudeM);
+}
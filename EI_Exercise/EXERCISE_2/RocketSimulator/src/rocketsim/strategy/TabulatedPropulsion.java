@@ -0,0 +1,37 @@
+package rocketsim.strategy;
+
+/**
+ * Concrete Strategy: thrust follows a precompiled curve over stage time or altitude.
+ * Mass flow scales with thrust (constant specific impulse), so a stage throttled to 70%
+ * also burns 70% of its nominal propellant rate.
+ */
+public class TabulatedPropulsion implements PropulsionStrategy {
+    /** Independent variable the curve is indexed by. */
+    public enum Axis { TIME, ALTITUDE }
+
+    private final LookupTable thrustCurve;
+    private final boolean byAltitude;
+    private final double kgPerNewtonSecond;
+
+    /**
+     * @param thrustCurve       Thrust in newtons over the chosen axis.
+     * @param axis              TIME (seconds since ignition) or ALTITUDE (metres).
+     * @param nominalThrustN    Rated thrust of the stage.
+     * @param nominalBurnRateKgS Propellant flow at rated thrust.
+     */
+    public TabulatedPropulsion(LookupTable thrustCurve, Axis axis, double nominalThrustN, double nominalBurnRateKgS) {
+        this.thrustCurve = thrustCurve;
+        this.byAltitude = axis == Axis.ALTITUDE;
+        this.kgPerNewtonSecond = nominalBurnRateKgS / nominalThrustN;
+    }
+
+    @Override
+    public double thrustN(double stageTimeS, double altitudeM) {
+        return thrustCurve.valueAt(byAltitude ? altitudeM : stageTimeS);
+    }
+
+    @Override
+    public double burnRateKgS(double stageTimeS, double altitudeM) {
+        return thrustN(stageTimeS, altitudeM) * kgPerNewtonSecond;
+    }
+}
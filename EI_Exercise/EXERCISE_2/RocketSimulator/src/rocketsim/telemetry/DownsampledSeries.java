@@ -0,0 +1,49 @@
+package rocketsim.telemetry;
+
+/**
+ * Points a SeriesDownsampler kept from a series, in time order. Immutable.
+ */
+public final class DownsampledSeries {
+    private final String name;
+    private final long sourceSamples;
+    private final double[] times;
+    private final double[] values;
+
+    DownsampledSeries(String name, long sourceSamples, double[] times, double[] values) {
+        this.name = name;
+        this.sourceSamples = sourceSamples;
+        this.times = times;
+        this.values = values;
+    }
+
+    public String getName() { return name; }
+    // Samples the series had before downsampling.
+    public long getSourceSamples() { return sourceSamples; }
+    public int size() { return times.length; }
+    public double getTime(int i) { return times[i]; }
+    public double getValue(int i) { return values[i]; }
+
+    /**
+     * Value at 'time' on the straight lines between the kept points (clamped at the ends),
+     * i.e. what a viewer draws.
+     */
+    public double interpolate(double time) {
+        if (times.length == 0) return Double.NaN;
+        if (time <= times[0]) return values[0];
+        int last = times.length - 1;
+        if (time >= times[last]) return values[last];
+        int lo = 0, hi = last;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= time) lo = mid;
+            else hi = mid;
+        }
+        double span = times[hi] - times[lo];
+        return span == 0 ? values[hi] : values[lo] + (values[hi] - values[lo]) * (time - times[lo]) / span;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d of %d samples", name, times.length, sourceSamples);
+    }
+}
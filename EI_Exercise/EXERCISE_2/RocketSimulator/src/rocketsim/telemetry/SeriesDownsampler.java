@@ -0,0 +1,193 @@
+package rocketsim.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * Downsamples one time series to about 'target' points as samples arrive, in fixed memory.
+ *
+ * Samples are folded into at most 2 * target equal-width time buckets that keep their
+ * first, last, minimum and maximum sample. When a sample falls past the last bucket, the
+ * width doubles and neighbouring buckets merge, which loses nothing those four points
+ * describe, so the length of the mission need not be known up front. points() then picks
+ * 'target' of the bucket points with largest-triangle-three-buckets (LTTB), keeping the
+ * visual shape: peaks, dips and the ends survive, flat stretches collapse.
+ * Not thread-safe; points() may be called at any time, e.g. for a live view.
+ */
+public final class SeriesDownsampler {
+    private final String name;
+    private final int target;
+    private final int maxBuckets;
+
+    // Per bucket: first, last, min and max sample (time and value); a bucket is empty if firstT is NaN.
+    private final double[] firstT, firstV, lastT, lastV, minT, minV, maxT, maxV;
+    private double origin = Double.NaN;
+    private double width = 1.0;
+    private int used;        // Buckets up to and including the latest non-empty one.
+    private long samples;
+    private double latestT = Double.NEGATIVE_INFINITY;
+
+    // Scratch for points(), sized once.
+    private final double[] candT, candV;
+
+    /**
+     * @param target Points points() returns at most; at least 3.
+     */
+    public SeriesDownsampler(String name, int target) {
+        if (target < 3) throw new IllegalArgumentException("Target must be at least 3 points.");
+        this.name = name;
+        this.target = target;
+        this.maxBuckets = 2 * target;
+        firstT = new double[maxBuckets];
+        firstV = new double[maxBuckets];
+        lastT = new double[maxBuckets];
+        lastV = new double[maxBuckets];
+        minT = new double[maxBuckets];
+        minV = new double[maxBuckets];
+        maxT = new double[maxBuckets];
+        maxV = new double[maxBuckets];
+        candT = new double[4 * maxBuckets];
+        candV = new double[4 * maxBuckets];
+        reset();
+    }
+
+    /** Forgets every sample; no allocation. */
+    public void reset() {
+        Arrays.fill(firstT, Double.NaN);
+        origin = Double.NaN;
+        width = 1.0;
+        used = 0;
+        samples = 0;
+        latestT = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a sample. Allocation-free.
+     * @throws IllegalArgumentException If 'time' is before the previous sample's.
+     */
+    public void add(double time, double value) {
+        if (time < latestT) throw new IllegalArgumentException("Sample times must not go backwards.");
+        latestT = time;
+        if (samples++ == 0) origin = time;
+        int bucket = (int) Math.min(Integer.MAX_VALUE, (long) ((time - origin) / width));
+        while (bucket >= maxBuckets) {
+            halve();
+            bucket = (int) Math.min(Integer.MAX_VALUE, (long) ((time - origin) / width));
+        }
+        if (Double.isNaN(firstT[bucket])) {
+            firstT[bucket] = lastT[bucket] = minT[bucket] = maxT[bucket] = time;
+            firstV[bucket] = lastV[bucket] = minV[bucket] = maxV[bucket] = value;
+        } else {
+            lastT[bucket] = time;
+            lastV[bucket] = value;
+            if (value < minV[bucket]) {
+                minT[bucket] = time;
+                minV[bucket] = value;
+            }
+            if (value > maxV[bucket]) {
+                maxT[bucket] = time;
+                maxV[bucket] = value;
+            }
+        }
+        used = Math.max(used, bucket + 1);
+    }
+
+    // Doubles the bucket width: bucket i becomes the merge of buckets 2i and 2i + 1.
+    private void halve() {
+        for (int i = 0; i < maxBuckets / 2; i++) {
+            int a = 2 * i, b = 2 * i + 1;
+            boolean hasA = !Double.isNaN(firstT[a]), hasB = !Double.isNaN(firstT[b]);
+            int from = hasA ? a : b;
+            firstT[i] = firstT[from];
+            firstV[i] = firstV[from];
+            int to = hasB ? b : a;
+            lastT[i] = lastT[to];
+            lastV[i] = lastV[to];
+            int lo = hasA && (!hasB || minV[a] <= minV[b]) ? a : b;
+            minT[i] = minT[lo];
+            minV[i] = minV[lo];
+            int hi = hasA && (!hasB || maxV[a] >= maxV[b]) ? a : b;
+            maxT[i] = maxT[hi];
+            maxV[i] = maxV[hi];
+        }
+        Arrays.fill(firstT, maxBuckets / 2, maxBuckets, Double.NaN);
+        width *= 2;
+        used = (used + 1) / 2;
+    }
+
+    public String getName() { return name; }
+    public int getTarget() { return target; }
+    public long getSampleCount() { return samples; }
+
+    /**
+     * The downsampled series so far: at most 'target' points in time order, including the
+     * first and the latest sample.
+     */
+    public DownsampledSeries points() {
+        int n = candidates();
+        if (n <= target) return new DownsampledSeries(name, samples, Arrays.copyOf(candT, n), Arrays.copyOf(candV, n));
+
+        double[] times = new double[target];
+        double[] values = new double[target];
+        times[0] = candT[0];
+        values[0] = candV[0];
+        // LTTB: the middle candidates split into target - 2 buckets; from each, keep the point making
+        // the largest triangle with the last kept point and the average of the next bucket.
+        double every = (double) (n - 2) / (target - 2);
+        int kept = 0;
+        for (int i = 0; i < target - 2; i++) {
+            int from = (int) (i * every) + 1, to = (int) ((i + 1) * every) + 1;
+            int nextFrom = to, nextTo = Math.min((int) ((i + 2) * every) + 1, n);
+            double avgT = 0, avgV = 0;
+            for (int j = nextFrom; j < nextTo; j++) {
+                avgT += candT[j];
+                avgV += candV[j];
+            }
+            int count = Math.max(1, nextTo - nextFrom);
+            avgT /= count;
+            avgV /= count;
+            if (nextTo <= nextFrom) {
+                avgT = candT[n - 1];
+                avgV = candV[n - 1];
+            }
+            double aT = candT[kept], aV = candV[kept];
+            double bestArea = -1;
+            int best = from;
+            for (int j = from; j < to; j++) {
+                double area = Math.abs((aT - avgT) * (candV[j] - aV) - (aT - candT[j]) * (avgV - aV));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = j;
+                }
+            }
+            kept = best;
+            times[i + 1] = candT[best];
+            values[i + 1] = candV[best];
+        }
+        times[target - 1] = candT[n - 1];
+        values[target - 1] = candV[n - 1];
+        return new DownsampledSeries(name, samples, times, values);
+    }
+
+    // Collects each bucket's distinct first/min/max/last points, in time order, into candT/candV.
+    private int candidates() {
+        int n = 0;
+        for (int b = 0; b < used; b++) {
+            if (Double.isNaN(firstT[b])) continue;
+            n = append(n, firstT[b], firstV[b]);
+            // Min and max lie between first and last in time, in either order; any may be the same sample.
+            boolean minFirst = minT[b] <= maxT[b];
+            n = append(n, minFirst ? minT[b] : maxT[b], minFirst ? minV[b] : maxV[b]);
+            n = append(n, minFirst ? maxT[b] : minT[b], minFirst ? maxV[b] : minV[b]);
+            n = append(n, lastT[b], lastV[b]);
+        }
+        return n;
+    }
+
+    private int append(int n, double time, double value) {
+        // The same sample again (it was also the bucket's first, min or max).
+        if (n > 0 && candT[n - 1] == time && candV[n - 1] == value) return n;
+        candT[n] = time;
+        candV[n] = value;
+        return n + 1;
+    }
+}
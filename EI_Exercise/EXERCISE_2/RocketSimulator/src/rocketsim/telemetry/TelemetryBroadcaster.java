@@ -0,0 +1,314 @@
+package rocketsim.telemetry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import rocketsim.core.RocketLaunchSimulator;
+import rocketsim.core.RocketLaunchSimulator.MissionStatusObserver;
+import rocketsim.model.TelemetrySnapshot;
+
+/**
+ * Streams live telemetry to any number of local TCP subscribers, one JSON line per tick.
+ *
+ * Register it as the simulator's single observer: each tick is encoded once into a shared,
+ * read-only frame and handed to a broadcast thread, so the tick thread never waits on a
+ * socket. The broadcast thread writes the frame to every subscriber with non-blocking
+ * channels. A subscriber still busy with an older frame skips straight to the newest one
+ * (coalescing), and one that cannot finish a frame within the stall timeout is dropped.
+ *
+ * Try it with: nc localhost &lt;port&gt;
+ */
+public class TelemetryBroadcaster implements MissionStatusObserver, Closeable {
+    public static final long DEFAULT_STALL_MILLIS = 2000;
+    // Keeps slow clients from hiding behind a large kernel buffer.
+    private static final int SEND_BUFFER_BYTES = 16 * 1024;
+
+    // One encoded tick; shared by every subscriber, never modified after publication.
+    private static final class Frame {
+        final long seq;
+        final long publishedNanos;
+        final ByteBuffer bytes;
+
+        Frame(long seq, long publishedNanos, byte[] bytes) {
+            this.seq = seq;
+            this.publishedNanos = publishedNanos;
+            this.bytes = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        }
+    }
+
+    // Broadcast-thread state for one connection.
+    private static final class Subscriber {
+        final SocketChannel channel;
+        final SelectionKey key;
+        long sentSeq;            // Last frame fully written.
+        Frame current;           // Frame being written, or null when idle.
+        ByteBuffer pending;
+        long currentSinceNanos;
+
+        Subscriber(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+    }
+
+    private final RocketLaunchSimulator simulator;
+    private final long stallNanos;
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread thread;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    // Tick-thread state.
+    private final TelemetrySnapshot snapshot = new TelemetrySnapshot();
+    private final StringBuilder line = new StringBuilder(256);
+    private long nextSeq = 1;
+
+    private volatile Frame latest;
+    private volatile boolean running = true;
+
+    // Written only by the broadcast thread.
+    private volatile int subscriberCount;
+    private volatile long accepted, dropped, disconnected, framesSent, framesCoalesced;
+    private volatile long worstLagFrames, worstLagNanos;
+
+    /**
+     * Listens on the loopback interface.
+     * @param port TCP port, or 0 for any free port (see getPort()).
+     */
+    public TelemetryBroadcaster(RocketLaunchSimulator simulator, int port) throws IOException {
+        this(simulator, port, DEFAULT_STALL_MILLIS);
+    }
+
+    public TelemetryBroadcaster(RocketLaunchSimulator simulator, int port, long stallMillis) throws IOException {
+        if (stallMillis <= 0) throw new IllegalArgumentException("Stall timeout must be positive.");
+        this.simulator = simulator;
+        this.stallNanos = stallMillis * 1_000_000L;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::broadcastLoop, "telemetry-broadcast");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int getPort() { return server.socket().getLocalPort(); }
+
+    /**
+     * Called on the tick thread: encodes the tick once and wakes the broadcast thread.
+     */
+    @Override
+    public void updateStatus(String status) {
+        simulator.getRocket().readTelemetry(snapshot);
+        line.setLength(0);
+        line.append("{\"seq\":").append(nextSeq)
+            .append(",\"t\":").append(snapshot.getTimeElapsedSeconds())
+            .append(",\"stage\":").append(snapshot.getCurrentStage())
+            .append(",\"altitudeKm\":");
+        appendFixed(line, snapshot.getAltitudeKm(), 1000);
+        line.append(",\"speedKmh\":");
+        appendFixed(line, snapshot.getSpeedKmh(), 10);
+        line.append(",\"fuelPercent\":");
+        appendFixed(line, snapshot.getFuelPercent(), 100);
+        line.append(",\"fuelLeak\":").append(snapshot.isFuelLeakActive())
+            .append(",\"active\":").append(snapshot.isMissionActive())
+            .append(",\"status\":\"");
+        appendEscaped(line, status);
+        line.append("\"}\n");
+        latest = new Frame(nextSeq++, System.nanoTime(), line.toString().getBytes(StandardCharsets.US_ASCII));
+        if (subscriberCount > 0) selector.wakeup(); // Otherwise the next accept picks the frame up.
+    }
+
+    // Appends 'value' rounded to 1/scale (scale a power of ten) without going through String.format.
+    private static void appendFixed(StringBuilder sb, double value, int scale) {
+        long scaled = Math.round(value * scale);
+        if (scaled < 0) {
+            sb.append('-');
+            scaled = -scaled;
+        }
+        sb.append(scaled / scale).append('.');
+        long frac = scaled % scale;
+        for (int digit = scale / 10; digit > 0; digit /= 10) {
+            sb.append((char) ('0' + frac / digit % 10));
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c == '\n') sb.append("\\n");
+            else if (c < 0x20 || c > 0x7e) sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+    }
+
+    private void broadcastLoop() {
+        try {
+            while (running) {
+                // Wake periodically even without ticks, so stalled clients are still noticed.
+                selector.select(Math.max(1, stallNanos / 4_000_000L));
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) accept();
+                }
+                pump(System.nanoTime());
+            }
+        } catch (IOException e) {
+            if (running) System.err.println("Telemetry broadcast stopped: " + e.getMessage());
+        } finally {
+            for (Subscriber s : subscribers) closeQuietly(s);
+            subscribers.clear();
+            subscriberCount = 0;
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, SEND_BUFFER_BYTES);
+            Subscriber s = new Subscriber(channel, channel.register(selector, 0));
+            Frame frame = latest;
+            if (frame != null) s.sentSeq = frame.seq - 1; // New subscribers start at the current tick.
+            subscribers.add(s);
+            accepted++;
+        }
+        subscriberCount = subscribers.size();
+    }
+
+    // Advances every subscriber as far as its socket allows, then refreshes the lag metrics.
+    private void pump(long now) {
+        Frame frame = latest;
+        long lagFrames = 0, lagNanos = 0;
+        for (Iterator<Subscriber> it = subscribers.iterator(); it.hasNext(); ) {
+            Subscriber s = it.next();
+            try {
+                if (s.current == null && frame != null && frame.seq > s.sentSeq) start(s, frame, now);
+                if (s.current != null) {
+                    s.channel.write(s.pending);
+                    if (!s.pending.hasRemaining()) {
+                        finish(s);
+                        if (frame != null && frame.seq > s.sentSeq) {
+                            start(s, frame, now);
+                            s.channel.write(s.pending);
+                            if (!s.pending.hasRemaining()) finish(s);
+                        }
+                    }
+                }
+                if (s.current != null && now - s.currentSinceNanos > stallNanos) {
+                    dropped++;
+                    it.remove();
+                    closeQuietly(s);
+                    continue;
+                }
+                s.key.interestOps(s.current != null ? SelectionKey.OP_WRITE : 0);
+            } catch (IOException e) {
+                disconnected++;
+                it.remove();
+                closeQuietly(s);
+                continue;
+            }
+            if (frame != null && s.sentSeq < frame.seq) {
+                // Age of the oldest tick this subscriber has not fully received.
+                long oldest = s.current != null ? s.current.publishedNanos : frame.publishedNanos;
+                lagFrames = Math.max(lagFrames, frame.seq - s.sentSeq);
+                lagNanos = Math.max(lagNanos, now - oldest);
+            }
+        }
+        subscriberCount = subscribers.size();
+        worstLagFrames = lagFrames;
+        worstLagNanos = lagNanos;
+    }
+
+    private void start(Subscriber s, Frame frame, long now) {
+        if (s.sentSeq > 0) framesCoalesced += frame.seq - s.sentSeq - 1;
+        s.current = frame;
+        s.pending = frame.bytes.duplicate();
+        s.currentSinceNanos = now;
+    }
+
+    private void finish(Subscriber s) {
+        s.sentSeq = s.current.seq;
+        s.current = null;
+        s.pending = null;
+        framesSent++;
+    }
+
+    private static void closeQuietly(Subscriber s) {
+        s.key.cancel();
+        try {
+            s.channel.close();
+        } catch (IOException ignored) {
+            // Already gone.
+        }
+    }
+
+    public Metrics getMetrics() {
+        Frame frame = latest;
+        return new Metrics(subscriberCount, accepted, dropped, disconnected, frame == null ? 0 : frame.seq,
+                framesSent, framesCoalesced, worstLagFrames, worstLagNanos / 1_000_000.0);
+    }
+
+    /**
+     * Stops accepting, closes every subscriber and waits for the broadcast thread.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server.close();
+        selector.close();
+    }
+
+    /**
+     * Counters since start; lag is that of the furthest-behind current subscriber.
+     */
+    public static final class Metrics {
+        public final int subscribers;
+        public final long accepted, dropped, disconnected;
+        public final long framesPublished, framesSent, framesCoalesced;
+        public final long worstLagFrames;
+        public final double worstLagMillis;
+
+        Metrics(int subscribers, long accepted, long dropped, long disconnected, long framesPublished,
+                long framesSent, long framesCoalesced, long worstLagFrames, double worstLagMillis) {
+            this.subscribers = subscribers;
+            this.accepted = accepted;
+            this.dropped = dropped;
+            this.disconnected = disconnected;
+            this.framesPublished = framesPublished;
+            this.framesSent = framesSent;
+            this.framesCoalesced = framesCoalesced;
+            this.worstLagFrames = worstLagFrames;
+            this.worstLagMillis = worstLagMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("subscribers=%d accepted=%d dropped(slow)=%d disconnected=%d | frames published=%d"
+                    + " sent=%d coalesced=%d | worst lag %d frames / %.1f ms", subscribers, accepted, dropped,
+                    disconnected, framesPublished, framesSent, framesCoalesced, worstLagFrames, worstLagMillis);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package rocketsim.telemetry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import rocketsim.core.RocketLaunchSimulator.TickListener;
+import rocketsim.model.Rocket;
+
+/**
+ * Export stage for plotting tools and remote viewers: downsamples each mission's altitude (km),
+ * speed (km/h) and fuel (%) series as ticks arrive (see SeriesDownsampler) and appends the
+ * result to one file per run, one block per mission. Memory is bounded by the point target,
+ * however long the mission and however many missions are exported.
+ *
+ * Files ending in .bin are binary: the int 0x52534453 ("RSDS") and a short version, then per
+ * mission its label (modified UTF-8), a series count and, per series, its name, source
+ * sample count (int), point count (int) and the points as (float time s, float value).
+ * Other files are CSV with the header mission,series,timeS,value.
+ *
+ * Feed it either as a simulator tick listener (every simulated second, also under run_until;
+ * each simulator reset starts a new mission) or directly with startMission and record, e.g.
+ * from a batch loop. Thread-safe, so a viewer thread may call current() while ticks arrive.
+ */
+public final class TrajectoryExporter implements TickListener, Closeable {
+    public static final int DEFAULT_POINTS = 500;
+    private static final int MAGIC = 0x52534453;
+    private static final short VERSION = 1;
+
+    private final SeriesDownsampler[] series;
+    private final DataOutputStream binary;
+    private final BufferedWriter csv;
+
+    private String label;
+    private int missions;
+    // First export failure seen on the listener path, which cannot throw; reported by close().
+    private IOException failure;
+
+    /**
+     * Exports missions recorded with startMission and record, or those of a simulator it is
+     * registered with (simulator.addTickListener).
+     */
+    public TrajectoryExporter(int points, Path output) throws IOException {
+        this.series = new SeriesDownsampler[] {
+            new SeriesDownsampler("altitudeKm", points),
+            new SeriesDownsampler("speedKmh", points),
+            new SeriesDownsampler("fuelPercent", points),
+        };
+        if (output.getFileName().toString().endsWith(".bin")) {
+            binary = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)));
+            binary.writeInt(MAGIC);
+            binary.writeShort(VERSION);
+            csv = null;
+        } else {
+            csv = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+            csv.write("mission,series,timeS,value\n");
+            binary = null;
+        }
+    }
+
+    /** Listener path: one sample per simulated second. */
+    @Override
+    public void onTick(Rocket rocket) {
+        record(rocket);
+    }
+
+    /**
+     * Listener path: the simulator was reset, so the previous mission is complete. A failure to
+     * write it is kept and rethrown by close(); the next mission is still recorded.
+     */
+    @Override
+    public synchronized void onReset() {
+        try {
+            startMission(null);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes out the mission in progress, if any, and starts a new one (even if the write fails).
+     * @param label Mission label; null numbers missions in order.
+     */
+    public synchronized void startMission(String label) throws IOException {
+        try {
+            flushMission();
+        } finally {
+            this.label = label;
+            for (SeriesDownsampler s : series) s.reset();
+        }
+    }
+
+    /** Samples one tick straight from the rocket (simulation thread only). Allocation-free. */
+    public void record(Rocket rocket) {
+        add(rocket.getTimeElapsedSeconds(), rocket.getAltitudeKm(), rocket.getSpeedKmh(), rocket.getFuelPercent());
+    }
+
+    public synchronized void add(double timeSeconds, double altitudeKm, double speedKmh, double fuelPercent) {
+        series[0].add(timeSeconds, altitudeKm);
+        series[1].add(timeSeconds, speedKmh);
+        series[2].add(timeSeconds, fuelPercent);
+    }
+
+    /** The mission in progress, downsampled so far. */
+    public synchronized List<DownsampledSeries> current() {
+        List<DownsampledSeries> result = new ArrayList<>(series.length);
+        for (SeriesDownsampler s : series) result.add(s.points());
+        return result;
+    }
+
+    public synchronized int getMissionsWritten() { return missions; }
+
+    private void flushMission() throws IOException {
+        if (series[0].getSampleCount() == 0) return;
+        String name = label != null ? label : "mission-" + (missions + 1);
+        List<DownsampledSeries> points = current();
+        if (binary != null) {
+            binary.writeUTF(name);
+            binary.writeByte(points.size());
+            for (DownsampledSeries s : points) {
+                binary.writeUTF(s.getName());
+                binary.writeInt((int) Math.min(Integer.MAX_VALUE, s.getSourceSamples()));
+                binary.writeInt(s.size());
+                for (int i = 0; i < s.size(); i++) {
+                    binary.writeFloat((float) s.getTime(i));
+                    binary.writeFloat((float) s.getValue(i));
+                }
+            }
+        } else {
+            StringBuilder sb = new StringBuilder();
+            for (DownsampledSeries s : points) {
+                for (int i = 0; i < s.size(); i++) {
+                    sb.setLength(0);
+                    double t = s.getTime(i);
+                    sb.append(name).append(',').append(s.getName()).append(',');
+                    if (t == Math.rint(t)) sb.append((long) t);
+                    else sb.append((float) t);
+                    sb.append(',').append((float) s.getValue(i)).append('\n');
+                    csv.append(sb);
+                }
+            }
+        }
+        missions++;
+        for (SeriesDownsampler s : series) s.reset();
+    }
+
+    /**
+     * Writes the mission in progress and closes the file.
+     * @throws IOException The first failure of the export, including one from onReset; later
+     *                     ones are attached to it as suppressed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flushMission();
+        } catch (IOException e) {
+            fail(e);
+        }
+        try {
+            if (binary != null) binary.close();
+            else csv.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void fail(IOException e) {
+        if (failure == null) failure = e;
+        else if (failure != e) failure.addSuppressed(e);
+    }
+
+    /** One mission block read back from a binary export. */
+    public static final class Mission {
+        public final String label;
+        public final List<DownsampledSeries> series;
+
+        Mission(String label, List<DownsampledSeries> series) {
+            this.label = label;
+            this.series = series;
+        }
+    }
+
+    /**
+     * Reads every mission of a binary export (what a viewer does).
+     * @throws IOException If the file is not a binary trajectory export.
+     */
+    public static List<Mission> readBinary(Path file) throws IOException {
+        List<Mission> missions = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException(file + " is not a version " + VERSION + " trajectory export.");
+            }
+            while (true) {
+                String label;
+                try {
+                    label = in.readUTF();
+                } catch (EOFException end) {
+                    return missions;
+                }
+                int count = in.readUnsignedByte();
+                List<DownsampledSeries> series = new ArrayList<>(count);
+                for (int s = 0; s < count; s++) {
+                    String name = in.readUTF();
+                    long source = in.readInt();
+                    int n = in.readInt();
+                    double[] times = new double[n];
+                    double[] values = new double[n];
+                    for (int i = 0; i < n; i++) {
+                        times[i] = in.readFloat();
+                        values[i] = in.readFloat();
+                    }
+                    series.add(new DownsampledSeries(name, source, times, values));
+                }
+                missions.add(new Mission(label, series));
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package rocketsim.util;
+
+/**
+ * Severity of a log category. Events below a logger's threshold are dropped before formatting.
+ * OFF is only meaningful as a threshold: it drops everything.
+ */
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR, OFF
+}
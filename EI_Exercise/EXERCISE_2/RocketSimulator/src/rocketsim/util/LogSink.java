@@ -0,0 +1,97 @@
+package rocketsim.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One open log file shared by every Logger that writes to it (e.g. all missions on a worker).
+ * The file is opened by its first logger and closed when the last one releases it; each line
+ * is written and flushed under the sink's lock, so lines from different missions never
+ * interleave mid-line.
+ */
+public final class LogSink {
+    private static final Map<Path, LogSink> OPEN_SINKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private BufferedWriter writer;
+    private boolean failed;
+    private int references; // Only changed inside OPEN_SINKS.compute for this path.
+
+    private LogSink(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the sink for 'path', opening it if no logger holds it; each call must be
+     * matched by one release.
+     * @param append False truncates the file when it is opened (not when it is already open).
+     */
+    public static LogSink forPath(Path path, boolean append) {
+        return OPEN_SINKS.compute(path.toAbsolutePath().normalize(), (p, sink) -> {
+            if (sink == null) {
+                sink = new LogSink(p);
+                sink.open(append);
+            }
+            sink.references++;
+            return sink;
+        });
+    }
+
+    /**
+     * Drops one reference; the last one closes the file and forgets the sink.
+     */
+    void release() {
+        OPEN_SINKS.computeIfPresent(path, (p, sink) -> {
+            if (sink != this || --references > 0) return sink;
+            close();
+            return null;
+        });
+    }
+
+    private void open(boolean append) {
+        try {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+    }
+
+    synchronized void writeLine(CharSequence line) {
+        if (writer == null) return;
+        try {
+            writer.append(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+    }
+
+    private synchronized void close() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+        writer = null;
+    }
+
+    public Path getPath() { return path; }
+
+    // Reported once per sink; logging failures must never crash the simulation.
+    private void reportFailure(IOException e) {
+        if (!failed) {
+            failed = true;
+            System.err.println("!!! Logger Error: Could not write to log file " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,54 +1,171 @@
 package rocketsim.util;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import rocketsim.jfr.LogWriteEvent;
 
 /**
- * A Singleton logger class to handle writing mission events to a log file.
- * FINAL VERSION: Includes robust exception handling for file I/O operations.
+ * Mission event logger. The global instance (getInstance) appends untagged events to
+ * mission_log.txt, so earlier runs are kept; mission-scoped loggers (forMission) tag every
+ * event with the mission id and write to their own file or to a shard shared by a worker.
+ * Per-category levels and sampling are checked before the event is formatted, so dropped
+ * high-frequency events cost a map lookup and nothing else.
+ * Close mission-scoped loggers when the mission is over; the file is closed once its last
+ * logger is.
  */
-public class Logger {
-    private static Logger instance;
+public class Logger implements AutoCloseable {
     private static final String LOG_FILE = "mission_log.txt";
-    private boolean isFirstLog = true;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
-    // Private constructor to prevent instantiation
-    private Logger() {}
+    // Default severity of the event categories used by the simulator; others are INFO.
+    private static final Map<String, LogLevel> DEFAULT_CATEGORY_LEVELS = Map.of(
+            "TICK", LogLevel.DEBUG,
+            "WARNING", LogLevel.WARN,
+            "FAILURE", LogLevel.ERROR);
+
+    private static class Holder {
+        private static final Logger INSTANCE = new Logger(null, LogSink.forPath(Path.of(LOG_FILE), true));
+    }
+
+    private final String missionId;
+    private final LogSink sink;
+    private final Map<String, LogLevel> categoryLevels = new ConcurrentHashMap<>(DEFAULT_CATEGORY_LEVELS);
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile LogLevel minimumLevel = LogLevel.INFO;
+
+    private Logger(String missionId, LogSink sink) {
+        this.missionId = missionId;
+        this.sink = sink;
+    }
 
     /**
      * Provides the global access point to the Logger instance.
      * @return The singleton Logger instance.
      */
-    public static synchronized Logger getInstance() {
-        if (instance == null) {
-            instance = new Logger();
-        }
-        return instance;
+    public static Logger getInstance() {
+        return Holder.INSTANCE;
     }
 
     /**
-     * Logs a message to the mission_log.txt file with a timestamp.
-     * Overwrites the file on the first call of a new run, then appends.
+     * Creates a logger for one mission writing to its own file, mission_log_<missionId>.txt.
+     */
+    public static Logger forMission(String missionId) {
+        return forMission(missionId, Path.of("mission_log_" + missionId + ".txt"));
+    }
+
+    /**
+     * Creates a logger for one mission writing to 'shard', which may be shared with other
+     * missions (e.g. one file per worker thread). Shards are appended to, never truncated.
+     */
+    public static Logger forMission(String missionId, Path shard) {
+        return new Logger(missionId, LogSink.forPath(shard, true));
+    }
+
+    /**
+     * Creates a logger that writes nothing, for headless batch runs where only outcomes matter.
+     * Raising its level has no effect since it has no file.
+     */
+    public static Logger silent(String missionId) {
+        return new Logger(missionId, null).setMinimumLevel(LogLevel.OFF);
+    }
+
+    /**
+     * Logs a message with a timestamp (and the mission id, for mission-scoped loggers).
      * @param eventType The type of event (e.g., "STATUS", "COMMAND", "FAILURE").
      * @param message The details of the event.
      */
     public void log(String eventType, String message) {
-        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date());
-        String logEntry = String.format("[%s] [%s] %s", timestamp, eventType, message);
-
-        // Use try-with-resources for safe file handling.
-        // The 'isFirstLog' flag controls whether to append or overwrite.
-        try (PrintWriter writer = new PrintWriter(new FileWriter(LOG_FILE, !isFirstLog))) {
-            writer.println(logEntry);
-            if (isFirstLog) {
-                isFirstLog = false; // Subsequent logs in this run will append.
+        log(eventType, "", message);
+    }
+
+    /**
+     * Logs prefix + message; the two are only joined if the event is written, so callers
+     * with a dynamic message allocate nothing when the category is filtered out.
+     */
+    public void log(String eventType, String prefix, String message) {
+        if (!shouldWrite(eventType)) return;
+
+        LogWriteEvent event = LogWriteEvent.enabled() ? new LogWriteEvent() : null;
+        if (event != null) event.begin();
+        StringBuilder entry = new StringBuilder(48 + prefix.length() + message.length());
+        entry.append('[');
+        TIMESTAMP.formatTo(LocalDateTime.now(), entry);
+        entry.append("] [");
+        if (missionId != null) entry.append(missionId).append("] [");
+        entry.append(eventType).append("] ").append(prefix).append(message);
+        sink.writeLine(entry);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.missionId = missionId;
+                event.eventType = eventType;
+                event.length = entry.length();
+                event.commit();
             }
-        } catch (IOException e) {
-            // If logging fails, print an error to the console but do not crash the simulation.
-            System.err.println("!!! Logger Error: Could not write to log file: " + e.getMessage());
         }
     }
+
+    /**
+     * Cheap pre-check for callers that would otherwise build an expensive message: whether
+     * the category passes the level filter. Sampling is not consulted, so checking first
+     * and then logging still samples each event once.
+     */
+    public boolean isEnabled(String eventType) {
+        if (sink == null || closed.get()) return false;
+        LogLevel level = categoryLevels.getOrDefault(eventType, LogLevel.INFO);
+        return level.compareTo(minimumLevel) >= 0;
+    }
+
+    // The level filter, then exactly one sample slot for sampled categories.
+    private boolean shouldWrite(String eventType) {
+        if (!isEnabled(eventType)) return false;
+        Sampler sampler = samplers.get(eventType);
+        return sampler == null || sampler.accept();
+    }
+
+    public Logger setMinimumLevel(LogLevel level) {
+        this.minimumLevel = level;
+        return this;
+    }
+
+    public Logger setCategoryLevel(String eventType, LogLevel level) {
+        categoryLevels.put(eventType, level);
+        return this;
+    }
+
+    /**
+     * Keeps only one of every 'everyN' events of this category (1 disables sampling).
+     */
+    public Logger setSampling(String eventType, int everyN) {
+        if (everyN <= 1) samplers.remove(eventType);
+        else samplers.put(eventType, new Sampler(everyN));
+        return this;
+    }
+
+    /**
+     * Releases this logger's file; later events are dropped. Idempotent. The global
+     * instance is never closed.
+     */
+    @Override
+    public void close() {
+        if (sink != null && missionId != null && closed.compareAndSet(false, true)) sink.release();
+    }
+
+    public String getMissionId() { return missionId; }
+    public Path getLogPath() { return sink == null ? null : sink.getPath(); }
+
+    private static final class Sampler {
+        private final int everyN;
+        private final AtomicLong seen = new AtomicLong();
+
+        Sampler(int everyN) { this.everyN = everyN; }
+
+        boolean accept() { return seen.getAndIncrement() % everyN == 0; }
+    }
 }